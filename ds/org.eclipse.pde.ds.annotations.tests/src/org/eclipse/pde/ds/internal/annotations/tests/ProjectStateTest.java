@@ -0,0 +1,80 @@
+package org.eclipse.pde.ds.internal.annotations.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.pde.ds.internal.annotations.DSAnnotationVersion;
+import org.eclipse.pde.ds.internal.annotations.ProjectState;
+import org.eclipse.pde.ds.internal.annotations.ValidationErrorLevel;
+import org.junit.Test;
+
+@SuppressWarnings("restriction")
+public class ProjectStateTest {
+
+	@Test
+	public void testBinaryRoundTrip() throws IOException {
+		ProjectState state = createState();
+
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		try (DataOutputStream out = new DataOutputStream(bytes)) {
+			state.write(out);
+		}
+
+		ProjectState loaded = ProjectState.load(new ByteArrayInputStream(bytes.toByteArray()));
+		assertEquals(state, loaded);
+		assertEquals(Set.of("OSGI-INF/a.A.xml", "OSGI-INF/a.B.xml"), Set.copyOf(loaded.getModelFiles("a/A.java")));
+		assertEquals("OSGI-INF/c.C.xml", loaded.getModelFile("c.C"));
+	}
+
+	@Test
+	public void testEmptyBinaryRoundTrip() throws IOException {
+		ProjectState state = new ProjectState();
+
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		try (DataOutputStream out = new DataOutputStream(bytes)) {
+			state.write(out);
+		}
+
+		ProjectState loaded = ProjectState.load(new ByteArrayInputStream(bytes.toByteArray()));
+		assertEquals(state, loaded);
+		assertNull(loaded.getPath());
+		assertNull(loaded.getSpecVersion());
+	}
+
+	@Test
+	public void testLoadSerialized() throws IOException {
+		ProjectState state = createState();
+
+		// state files of older versions are Java serialized
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+			out.writeObject(state);
+		}
+
+		assertEquals(state, ProjectState.load(new ByteArrayInputStream(bytes.toByteArray())));
+	}
+
+	private static ProjectState createState() {
+		ProjectState state = new ProjectState();
+		state.setPath("OSGI-INF");
+		state.setSpecVersion(DSAnnotationVersion.V1_3);
+		state.setErrorLevel(ValidationErrorLevel.warning);
+		state.setMissingUnbindMethodLevel(ValidationErrorLevel.ignore);
+
+		HashMap<String, String> dsKeys = new HashMap<>();
+		dsKeys.put("a.A", "OSGI-INF/a.A.xml");
+		dsKeys.put("a.B", "OSGI-INF/a.B.xml");
+		state.updateMappings("a/A.java", dsKeys);
+		state.updateMappings("c/C.java", new HashMap<>(Map.of("c.C", "OSGI-INF/c.C.xml")));
+		return state;
+	}
+}
@@ -16,11 +16,7 @@ package org.eclipse.pde.ds.internal.annotations;
 import static java.util.Map.entry;
 
 import java.io.BufferedReader;
-import java.io.ByteArrayInputStream;
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
-import java.io.ObjectInputStream;
-import java.io.ObjectOutputStream;
 import java.io.StringReader;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
@@ -1742,7 +1738,7 @@ public class AnnotationVisitor extends ASTVisitor {
 			return;
 		}
 
-		// workaround for PDE's busted DocumentObject.clone() method
+		// insert a copy, so that a new element is inserted rather than the old one replaced
 		int currentIndex = obj.indexOf(node);
 		if (currentIndex == -1) {
 			return;
@@ -1754,39 +1750,11 @@ public class AnnotationVisitor extends ASTVisitor {
 		}
 
 		obj.removeChildNode(node, fireEvent);
-		IDocumentElementNode clone = clone(obj, node);
+		IDocumentElementNode clone = node.copy();
+		clone.reconnect(obj, obj.getSharedModel());
 		obj.addChildNode(clone, newIndex, fireEvent);
 	}
 
-	private IDocumentElementNode clone(IDocumentObject obj, IDocumentElementNode node) {
-		// note: same exact impl as DocumentObject.clone()
-		// but here the deserialized object will actually resolve successfully
-		// because our classloader (with DSPropery visible) will be on top of the stack
-		// yay for Java serialization, *sigh*
-		IDocumentElementNode clone = null;
-		try (ByteArrayOutputStream bout = new ByteArrayOutputStream()) {
-			// Serialize
-			try (ObjectOutputStream out = new ObjectOutputStream(bout)) {
-				out.writeObject(node);
-				out.flush();
-			}
-			byte[] bytes = bout.toByteArray();
-			// Deserialize
-			try (ByteArrayInputStream bin = new ByteArrayInputStream(bytes);
-					ObjectInputStream in = new ObjectInputStream(bin)) {
-				clone = (IDocumentElementNode) in.readObject();
-			}
-			// Reconnect
-			clone.reconnect(obj, obj.getSharedModel());
-		} catch (IOException | ClassNotFoundException e) {
-			if (debug.isDebugging()) {
-				debug.trace("Error cloning element.", e); //$NON-NLS-1$
-			}
-		}
-
-		return clone;
-	}
-
 	private int indexOfLastPropertyOrProperties(IDSComponent component) {
 		int pos = -1;
 		IDSProperty[] propElements = component.getPropertyElements();
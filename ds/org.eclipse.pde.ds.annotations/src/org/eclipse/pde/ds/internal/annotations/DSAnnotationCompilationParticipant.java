@@ -15,19 +15,22 @@
  *******************************************************************************/
 package org.eclipse.pde.ds.internal.annotations;
 
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
 import java.io.File;
-import java.io.FileInputStream;
-import java.io.FileOutputStream;
 import java.io.IOException;
-import java.io.ObjectInputStream;
-import java.io.ObjectOutputStream;
-import java.lang.ref.SoftReference;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.Map;
 import java.util.regex.Matcher;
@@ -64,6 +67,7 @@ import org.eclipse.jdt.core.IType;
 import org.eclipse.jdt.core.JavaCore;
 import org.eclipse.jdt.core.JavaModelException;
 import org.eclipse.jdt.core.compiler.BuildContext;
+import org.eclipse.jdt.core.compiler.CharOperation;
 import org.eclipse.jdt.core.compiler.CompilationParticipant;
 import org.eclipse.jdt.core.dom.AST;
 import org.eclipse.jdt.core.dom.ASTParser;
@@ -92,6 +96,8 @@ public class DSAnnotationCompilationParticipant extends CompilationParticipant {
 
 	static final String COMPONENT_ANNOTATION = "org.osgi.service.component.annotations.Component"; //$NON-NLS-1$
 
+	private static final char[] COMPONENT_SIMPLE_NAME = "Component".toCharArray(); //$NON-NLS-1$
+
 	static final String ANNOTATIONS_PACKAGE = COMPONENT_ANNOTATION.substring(0, COMPONENT_ANNOTATION.lastIndexOf('.'));
 
 	private static final IPath COMPONENT_ANNOTATION_PATH = IPath.fromOSString(COMPONENT_ANNOTATION.replace('.',  '/'));
@@ -102,6 +108,14 @@ public class DSAnnotationCompilationParticipant extends CompilationParticipant {
 
 	private static final String STATE_FILENAME = "state.dat"; //$NON-NLS-1$
 
+	// number of state entries (see ProjectState.size()) of all projects kept in memory
+	private static final int STATE_CACHE_BUDGET = 100_000;
+
+	// projects whose state is held in memory, least recently used first, with the size of their state
+	private static final LinkedHashMap<IProject, Integer> cachedStates = new LinkedHashMap<>(16, 0.75f, true);
+
+	private static int cachedStatesSize;
+
 	static final String BUILDPATH_PROBLEM_MARKER = "org.eclipse.pde.ds.annotations.buildpath_problem"; //$NON-NLS-1$
 
 	private static final Debug debug = Debug.getDebug("ds-annotation-builder"); //$NON-NLS-1$
@@ -205,11 +219,9 @@ public class DSAnnotationCompilationParticipant extends CompilationParticipant {
 	private static ProjectState getState(IJavaProject project, int[] result) {
 		ProjectState state = null;
 		try {
-			Object value = project.getProject().getSessionProperty(PROP_STATE);
-			if (value instanceof SoftReference) {
-				@SuppressWarnings("unchecked")
-				SoftReference<ProjectState> ref = (SoftReference<ProjectState>) value;
-				state = ref.get();
+			if (project.getProject().getSessionProperty(PROP_STATE) instanceof ProjectState cached) {
+				state = cached;
+				cacheState(project.getProject(), state);
 			}
 		} catch (CoreException e) {
 			Activator.log(e);
@@ -229,14 +241,73 @@ public class DSAnnotationCompilationParticipant extends CompilationParticipant {
 				}
 			}
 
+			cacheState(project.getProject(), state);
+		}
+
+		return state;
+	}
+
+	/**
+	 * Keeps the given state in memory. Once the states of all projects exceed
+	 * {@link #STATE_CACHE_BUDGET}, the least recently used ones are dropped;
+	 * they are read from their state file again when needed.
+	 */
+	private static void cacheState(IProject project, ProjectState state) {
+		try {
+			if (project.getSessionProperty(PROP_STATE) != state) {
+				project.setSessionProperty(PROP_STATE, state);
+			}
+		} catch (CoreException e) {
+			Activator.log(e);
+			return;
+		}
+
+		synchronized (cachedStates) {
+			Integer oldSize = cachedStates.put(project, Integer.valueOf(state.size()));
+			cachedStatesSize += state.size() - (oldSize == null ? 0 : oldSize.intValue());
+			if (cachedStatesSize > STATE_CACHE_BUDGET) {
+				removeStaleStates();
+			}
+
+			for (Iterator<Map.Entry<IProject, Integer>> i = cachedStates.entrySet().iterator(); cachedStatesSize > STATE_CACHE_BUDGET && i.hasNext();) {
+				Map.Entry<IProject, Integer> eldest = i.next();
+				if (eldest.getKey().equals(project)) {
+					continue;
+				}
+
+				i.remove();
+				cachedStatesSize -= eldest.getValue().intValue();
+				try {
+					if (eldest.getKey().isAccessible()) {
+						eldest.getKey().setSessionProperty(PROP_STATE, null);
+					}
+				} catch (CoreException e) {
+					// project gone, nothing to drop
+				}
+			}
+		}
+	}
+
+	/**
+	 * Forgets the states of projects that were closed or deleted, or whose
+	 * state was dropped by other means, so that they no longer count against
+	 * {@link #STATE_CACHE_BUDGET}.
+	 */
+	private static void removeStaleStates() {
+		for (Iterator<Map.Entry<IProject, Integer>> i = cachedStates.entrySet().iterator(); i.hasNext();) {
+			Map.Entry<IProject, Integer> entry = i.next();
+			boolean stale;
 			try {
-				project.getProject().setSessionProperty(PROP_STATE, new SoftReference<>(state));
+				stale = !entry.getKey().isAccessible() || entry.getKey().getSessionProperty(PROP_STATE) == null;
 			} catch (CoreException e) {
-				Activator.log(e);
+				stale = true;
 			}
-		}
 
-		return state;
+			if (stale) {
+				i.remove();
+				cachedStatesSize -= entry.getValue().intValue();
+			}
+		}
 	}
 
 	private static ProjectState loadState(IProject project) throws IOException {
@@ -249,8 +320,8 @@ public class DSAnnotationCompilationParticipant extends CompilationParticipant {
 			return null;
 		}
 
-		try (ObjectInputStream in = new ObjectInputStream(new FileInputStream(stateFile))) {
-			ProjectState state = (ProjectState) in.readObject();
+		try (InputStream in = new BufferedInputStream(Files.newInputStream(stateFile.toPath()))) {
+			ProjectState state = ProjectState.load(in);
 
 			if (debug.isDebugging()) {
 				debug.trace(String.format("Loaded state for project: %s", project.getName())); //$NON-NLS-1$
@@ -260,10 +331,6 @@ public class DSAnnotationCompilationParticipant extends CompilationParticipant {
 			}
 
 			return state;
-		} catch (ClassNotFoundException e) {
-			IOException ex = new IOException("Unable to deserialize project state."); //$NON-NLS-1$
-			ex.initCause(e);
-			throw ex;
 		}
 	}
 
@@ -385,6 +452,9 @@ public class DSAnnotationCompilationParticipant extends CompilationParticipant {
 				}
 			}
 
+			// the state may have been dropped from memory during the build
+			cacheState(project.getProject(), state);
+
 			// delete all abandoned files
 			ArrayList<IStatus> deleteStatuses = new ArrayList<>(2);
 			for (String dsKey : abandoned) {
@@ -449,8 +519,15 @@ public class DSAnnotationCompilationParticipant extends CompilationParticipant {
 			}
 		}
 
-		try (ObjectOutputStream out = new ObjectOutputStream(new FileOutputStream(stateFile))) {
-			out.writeObject(state);
+		// write to a temporary file first, so that a failed write does not lose the previous state
+		Path tmp = Files.createTempFile(stateFile.getParentFile().toPath(), STATE_FILENAME, ".tmp"); //$NON-NLS-1$
+		try {
+			try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tmp)))) {
+				state.write(out);
+			}
+			Files.move(tmp, stateFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+		} finally {
+			Files.deleteIfExists(tmp);
 		}
 	}
 
@@ -641,7 +718,7 @@ public class DSAnnotationCompilationParticipant extends CompilationParticipant {
 				continue;
 			}
 
-			if (canSkipFile(cu)) {
+			if (!mayDeclareComponent(file) || canSkipFile(cu)) {
 				markAsAbandoned(cu);
 				continue;
 			}
@@ -665,6 +742,21 @@ public class DSAnnotationCompilationParticipant extends CompilationParticipant {
 		}
 	}
 
+	/**
+	 * Quick check that avoids opening the Java model for the majority of
+	 * compiled files: a file can only declare a component if the compiler found
+	 * annotations in it and its source mentions the annotation's simple name,
+	 * which is also part of the qualified one.
+	 */
+	private boolean mayDeclareComponent(BuildContext file) {
+		if (!file.hasAnnotations()) {
+			return false;
+		}
+		char[] source = file.getContents();
+		// without the source, leave the decision to the Java model
+		return source.length == 0 || CharOperation.indexOf(COMPONENT_SIMPLE_NAME, source, true) >= 0;
+	}
+
 	public boolean canSkipFile(ICompilationUnit cu) {
 		IType primaryType = cu.findPrimaryType();
 		if (primaryType == null) {
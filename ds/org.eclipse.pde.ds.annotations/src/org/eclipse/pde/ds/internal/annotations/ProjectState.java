@@ -13,6 +13,12 @@
  *******************************************************************************/
 package org.eclipse.pde.ds.internal.annotations;
 
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputStream;
 import java.io.Serializable;
 import java.util.Collection;
 import java.util.Collections;
@@ -30,6 +36,11 @@ public class ProjectState implements Serializable, Cloneable {
 	// current state file format version
 	public static final int FORMAT_VERSION = 1;
 
+	// marks a state file in the binary format written by write(DataOutputStream)
+	private static final int BINARY_MAGIC = 0x44535354;
+
+	private static final int BINARY_VERSION = 1;
+
 	// package-prefixed CU name (w/out file extension) to plugin-root-relative (portable) paths of generated DS files (deprecated)
 	// note: we keep it non-null in case user downgrades to older plugin version where old logic depends on that
 	private /*final*/ Map<String, Collection<String>> mappings = new HashMap<>();
@@ -181,6 +192,149 @@ public class ProjectState implements Serializable, Cloneable {
 		return files;
 	}
 
+	/**
+	 * Returns the number of entries held by this state, as a measure of its
+	 * memory use.
+	 */
+	int size() {
+		return mappings.size() + (types == null ? 0 : types.size()) + (files == null ? 0 : files.size());
+	}
+
+	/**
+	 * Writes this state in a compact binary format that can be read back with
+	 * {@link #load(InputStream)}.
+	 */
+	public void write(DataOutputStream out) throws IOException {
+		out.writeInt(BINARY_MAGIC);
+		out.writeInt(BINARY_VERSION);
+		out.writeInt(formatVersion);
+		writeString(out, path);
+		writeString(out, specVersion == null ? null : specVersion.name());
+		writeString(out, errorLevel == null ? null : errorLevel.name());
+		writeString(out, missingUnbindMethodLevel == null ? null : missingUnbindMethodLevel.name());
+		writeCollections(out, mappings);
+		writeCollections(out, types);
+		if (files == null) {
+			out.writeInt(-1);
+		} else {
+			out.writeInt(files.size());
+			for (Map.Entry<String, String> entry : files.entrySet()) {
+				out.writeUTF(entry.getKey());
+				out.writeUTF(entry.getValue());
+			}
+		}
+	}
+
+	/**
+	 * Reads a state written by {@link #write(DataOutputStream)}, or a Java
+	 * serialized one as written by older versions.
+	 */
+	public static ProjectState load(InputStream in) throws IOException {
+		DataInputStream dataIn = new DataInputStream(in.markSupported() ? in : new BufferedInputStream(in));
+		dataIn.mark(4);
+		boolean binary = dataIn.readInt() == BINARY_MAGIC;
+		dataIn.reset();
+		return binary ? read(dataIn) : readSerialized(dataIn);
+	}
+
+	private static ProjectState readSerialized(InputStream in) throws IOException {
+		try (ObjectInputStream objectIn = new ObjectInputStream(in)) {
+			return (ProjectState) objectIn.readObject();
+		} catch (ClassNotFoundException e) {
+			IOException ex = new IOException("Unable to deserialize project state."); //$NON-NLS-1$
+			ex.initCause(e);
+			throw ex;
+		}
+	}
+
+	/**
+	 * Reads a state written by {@link #write(DataOutputStream)}, including the
+	 * leading {@link #BINARY_MAGIC}.
+	 */
+	private static ProjectState read(DataInputStream in) throws IOException {
+		if (in.readInt() != BINARY_MAGIC) {
+			throw new IOException("Not a project state file."); //$NON-NLS-1$
+		}
+		int version = in.readInt();
+		if (version != BINARY_VERSION) {
+			throw new IOException("Unsupported project state file version: " + version); //$NON-NLS-1$
+		}
+		ProjectState state = new ProjectState();
+		state.formatVersion = in.readInt();
+		state.path = readString(in);
+		state.specVersion = readEnum(in, DSAnnotationVersion.class);
+		state.errorLevel = readEnum(in, ValidationErrorLevel.class);
+		state.missingUnbindMethodLevel = readEnum(in, ValidationErrorLevel.class);
+		Map<String, Collection<String>> mappings = readCollections(in);
+		state.mappings = mappings == null ? new HashMap<>() : mappings;
+		state.types = readCollections(in);
+		int fileCount = in.readInt();
+		if (fileCount >= 0) {
+			state.files = new HashMap<>(fileCount * 4 / 3 + 1);
+			for (int i = 0; i < fileCount; i++) {
+				state.files.put(in.readUTF(), in.readUTF());
+			}
+		}
+		return state;
+	}
+
+	private static void writeString(DataOutputStream out, String value) throws IOException {
+		out.writeBoolean(value != null);
+		if (value != null) {
+			out.writeUTF(value);
+		}
+	}
+
+	private static String readString(DataInputStream in) throws IOException {
+		return in.readBoolean() ? in.readUTF() : null;
+	}
+
+	private static <E extends Enum<E>> E readEnum(DataInputStream in, Class<E> enumType) throws IOException {
+		String name = readString(in);
+		if (name == null) {
+			return null;
+		}
+		try {
+			return Enum.valueOf(enumType, name);
+		} catch (IllegalArgumentException e) {
+			// unknown value, e.g. written by a newer version; fall back to the default
+			return null;
+		}
+	}
+
+	private static void writeCollections(DataOutputStream out, Map<String, Collection<String>> map) throws IOException {
+		if (map == null) {
+			out.writeInt(-1);
+			return;
+		}
+		out.writeInt(map.size());
+		for (Map.Entry<String, Collection<String>> entry : map.entrySet()) {
+			out.writeUTF(entry.getKey());
+			out.writeInt(entry.getValue().size());
+			for (String value : entry.getValue()) {
+				out.writeUTF(value);
+			}
+		}
+	}
+
+	private static Map<String, Collection<String>> readCollections(DataInputStream in) throws IOException {
+		int size = in.readInt();
+		if (size < 0) {
+			return null;
+		}
+		Map<String, Collection<String>> map = new HashMap<>(size * 4 / 3 + 1);
+		for (int i = 0; i < size; i++) {
+			String key = in.readUTF();
+			int count = in.readInt();
+			HashSet<String> values = new HashSet<>(count * 4 / 3 + 1);
+			for (int j = 0; j < count; j++) {
+				values.add(in.readUTF());
+			}
+			map.put(key, values);
+		}
+		return map;
+	}
+
 	@Override
 	public ProjectState clone() {
 		ProjectState clone;
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2014, 2023 TwelveTone LLC and others.
+ * Copyright (c) 2014, 2026 TwelveTone LLC and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -16,25 +16,36 @@
 
 package org.eclipse.e4.tools.emf.ui.internal.common.resourcelocator;
 
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
 import java.io.BufferedReader;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.lang.reflect.InvocationTargetException;
-import java.net.MalformedURLException;
-import java.net.URL;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Enumeration;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.zip.ZipEntry;
-import java.util.zip.ZipInputStream;
+import java.util.zip.ZipFile;
 
 import javax.xml.xpath.XPath;
 import javax.xml.xpath.XPathConstants;
@@ -43,9 +54,11 @@ import javax.xml.xpath.XPathFactory;
 import org.eclipse.core.internal.runtime.XmlProcessorFactory;
 import org.eclipse.core.resources.IProject;
 import org.eclipse.core.resources.IWorkspace;
+import org.eclipse.core.runtime.ILog;
 import org.eclipse.core.runtime.IPath;
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Platform;
 import org.eclipse.core.runtime.Status;
 import org.eclipse.core.runtime.jobs.Job;
 import org.eclipse.e4.tools.emf.ui.common.IClassContributionProvider;
@@ -73,6 +86,8 @@ import org.eclipse.swt.widgets.Composite;
 import org.eclipse.swt.widgets.Control;
 import org.eclipse.swt.widgets.Display;
 import org.eclipse.swt.widgets.Label;
+import org.osgi.framework.Bundle;
+import org.osgi.framework.FrameworkUtil;
 import org.w3c.dom.Document;
 import org.w3c.dom.NodeList;
 
@@ -104,6 +119,18 @@ public abstract class TargetPlatformContributionCollector extends ClassContribut
 		String pakage;
 	}
 
+	/**
+	 * The matching entry names of a target jar, valid as long as the jar has
+	 * the given size and modification time.
+	 */
+	record JarListing(long length, long modified, String bundleId, List<String> names) {
+	}
+
+	private static final int INDEX_VERSION = 1;
+	private final Map<String, JarListing> jarListings = new ConcurrentHashMap<>();
+	private volatile boolean jarListingsLoaded;
+	private volatile boolean jarListingsDirty;
+
 	@SuppressWarnings("unused")
 	private TargetPlatformContributionCollector() {
 	}
@@ -302,91 +329,63 @@ public abstract class TargetPlatformContributionCollector extends ClassContribut
 					final int total = projects.length + models.length;
 					monitor.beginTask(Messages.TargetPlatformContributionCollector_updatingTargetPlatformCache
 							+ cacheName + ")", total); //$NON-NLS-1$
+					loadJarListings();
 
-					for (final IProject pj : projects) {
-						if (monitor.isCanceled()) {
-							break;
+					// bundles are independent of each other, so scan them in parallel
+					Arrays.stream(projects).parallel().forEach(pj -> {
+						if (monitor.isCanceled() || pj.getLocation() == null) {
+							return;
 						}
 						final String rootDirectory = pj.getLocation().toOSString();
-						monitor.subTask(rootDirectory);
-						monitor.worked(1);
-						TargetPlatformContributionCollector.this
-						.visit(monitor, FilteredContributionDialog.getBundle(rootDirectory), rootDirectory,
-								new File(rootDirectory));
-					}
+						worked(monitor, rootDirectory);
+						final List<Entry> entries = new ArrayList<>();
+						TargetPlatformContributionCollector.this.visit(monitor,
+								FilteredContributionDialog.getBundle(rootDirectory), rootDirectory,
+								new File(rootDirectory), entries);
+						addEntries(entries);
+					});
 
 					// load target platform bundles
-					for (final IPluginModelBase pluginModelBase : models) {
-						monitor.subTask(pluginModelBase.getPluginBase().getId());
-						monitor.worked(1);
+					final Map<String, JarListing> seen = new ConcurrentHashMap<>();
+					Arrays.stream(models).parallel().forEach(pluginModelBase -> {
 						if (monitor.isCanceled()) {
-							break;
+							return;
 						}
-
 						final IPluginBase pluginBase = pluginModelBase.getPluginBase();
 						if (pluginBase == null) {
-							// bundle = getBundle(new File())
-							continue;
+							return;
 						}
-						URL url;
-						try {
-							final String installLocation = pluginModelBase.getInstallLocation();
-							if (installLocation.endsWith(".jar")) { //$NON-NLS-1$
-								url = new URL("file:///" + installLocation); //$NON-NLS-1$
-								try (final ZipInputStream zis = new ZipInputStream(url.openStream())) {
-									while (true) {
-										final ZipEntry entry = zis.getNextEntry();
-										if (entry == null) {
-											break;
-										}
-										final String name2 = entry.getName();
-										if (shouldIgnore(name2)) {
-											continue;
-										}
-										final Matcher m = patternFile.matcher(name2);
-										if (m.matches()) {
-											final Entry e = new Entry();
-											e.installLocation = installLocation;
-											cacheLocation.add(installLocation);
-											e.name = m.group(2);
-											e.path = m.group(1);
-											if (e.path != null) {
-												e.pakage = e.path.replace("/", "."); //$NON-NLS-1$ //$NON-NLS-2$
-												if (e.pakage.startsWith(".")) { //$NON-NLS-1$
-													e.pakage = e.pakage.substring(1);
-												}
-												if (e.pakage.endsWith(".")) { //$NON-NLS-1$
-													e.pakage = e.pakage.substring(0, e.pakage.length() - 1);
-												}
-											} else {
-												e.pakage = ""; //$NON-NLS-1$
-											}
-											cachePackage.add(e.pakage);
-
-											e.bundleSymName = pluginBase.getId();
-											if (e.path == null) {
-												e.path = ""; //$NON-NLS-1$
-											}
-											cacheEntry.add(e);
-											cacheBundleId.add(pluginBase.getId());
-										}
+						worked(monitor, pluginBase.getId());
+						final String installLocation = pluginModelBase.getInstallLocation();
+						if (installLocation == null) {
+							return;
+						}
+						final List<Entry> entries = new ArrayList<>();
+						if (installLocation.endsWith(".jar")) { //$NON-NLS-1$
+							final JarListing listing = getJarListing(installLocation, pluginBase.getId());
+							if (listing != null) {
+								seen.put(installLocation, listing);
+								for (final String name : listing.names()) {
+									final Entry e = createJarEntry(installLocation, listing.bundleId(), name);
+									if (e != null) {
+										entries.add(e);
 									}
 								}
-							} else {
-								// not a jar file
-								final String bundle = getBundle(new File(installLocation));
-								if (bundle != null) {
-									visit(monitor, bundle, installLocation, new File(installLocation));
-								}
 							}
-						} catch (final MalformedURLException e) {
-							// TODO Auto-generated catch block
-							e.printStackTrace();
-						} catch (final IOException e) {
-							// TODO Auto-generated catch block
-							e.printStackTrace();
+						} else {
+							// not a jar file
+							final String bundle = getBundle(new File(installLocation));
+							if (bundle != null) {
+								visit(monitor, bundle, installLocation, new File(installLocation), entries);
+							}
 						}
+						addEntries(entries);
+					});
+					if (!monitor.isCanceled()) {
+						// forget bundles that left the target
+						jarListings.keySet().retainAll(seen.keySet());
 					}
+					saveJarListings();
 					monitor.done();
 					if (monitor.isCanceled()) {
 						if (providerStatusCallback != null) {
@@ -505,13 +504,18 @@ public abstract class TargetPlatformContributionCollector extends ClassContribut
 		return null;
 	}
 
-	protected void visit(IProgressMonitor monitor, String bundleName, String installLocation, File file) {
-		for (final File fChild : file.listFiles()) {
+	protected void visit(IProgressMonitor monitor, String bundleName, String installLocation, File file,
+			List<Entry> result) {
+		final File[] children = file.listFiles();
+		if (children == null) {
+			return;
+		}
+		for (final File fChild : children) {
 			if (monitor.isCanceled()) {
 				break;
 			}
 			if (fChild.isDirectory()) {
-				visit(monitor, bundleName, installLocation, fChild);
+				visit(monitor, bundleName, installLocation, fChild, result);
 			} else {
 				String name2 = fChild.getAbsolutePath().substring(installLocation.length() + 1);
 				name2 = stripOutputDirectory(name2, installLocation);
@@ -522,7 +526,6 @@ public abstract class TargetPlatformContributionCollector extends ClassContribut
 				if (m.matches()) {
 					final Entry e = new Entry();
 					e.installLocation = installLocation;
-					cacheLocation.add(installLocation);
 					e.name = m.group(2);
 					if (e.name.contains("$")) { //$NON-NLS-1$
 						continue;
@@ -548,17 +551,177 @@ public abstract class TargetPlatformContributionCollector extends ClassContribut
 					e.bundleSymName = bundleName;
 					// TODO we need project to strip source paths.
 					// e.pakage = e.pakage.replaceAll("^bin.", "");
-					cachePackage.add(e.pakage);
-					cacheEntry.add(e);
-					if (bundleName != null) {
-						cacheBundleId.add(bundleName);
-					}
+					result.add(e);
 				}
 			}
 		}
 
 	}
 
+	private synchronized void addEntries(List<Entry> entries) {
+		for (final Entry e : entries) {
+			cacheLocation.add(e.installLocation);
+			cachePackage.add(e.pakage);
+			if (e.bundleSymName != null) {
+				cacheBundleId.add(e.bundleSymName);
+			}
+		}
+		cacheEntry.addAll(entries);
+	}
+
+	private static void worked(IProgressMonitor monitor, String subTask) {
+		synchronized (monitor) {
+			monitor.subTask(subTask);
+			monitor.worked(1);
+		}
+	}
+
+	private Entry createJarEntry(String installLocation, String bundleId, String name) {
+		final Matcher m = patternFile.matcher(name);
+		if (!m.matches()) {
+			return null;
+		}
+		final Entry e = new Entry();
+		e.installLocation = installLocation;
+		e.name = m.group(2);
+		e.path = m.group(1);
+		if (e.path != null) {
+			e.pakage = e.path.replace("/", "."); //$NON-NLS-1$ //$NON-NLS-2$
+			if (e.pakage.startsWith(".")) { //$NON-NLS-1$
+				e.pakage = e.pakage.substring(1);
+			}
+			if (e.pakage.endsWith(".")) { //$NON-NLS-1$
+				e.pakage = e.pakage.substring(0, e.pakage.length() - 1);
+			}
+		} else {
+			e.pakage = ""; //$NON-NLS-1$
+		}
+		e.bundleSymName = bundleId;
+		if (e.path == null) {
+			e.path = ""; //$NON-NLS-1$
+		}
+		return e;
+	}
+
+	/**
+	 * Returns the matching entry names of the given jar, listing them from the
+	 * central directory of the archive only if the jar changed since it was
+	 * last listed.
+	 */
+	private JarListing getJarListing(String installLocation, String bundleId) {
+		final File file = new File(installLocation);
+		final long length = file.length();
+		final long modified = file.lastModified();
+		JarListing listing = jarListings.get(installLocation);
+		if (listing != null && listing.length() == length && listing.modified() == modified
+				&& Objects.equals(listing.bundleId(), bundleId)) {
+			return listing;
+		}
+		final List<String> names = new ArrayList<>();
+		try (ZipFile zip = new ZipFile(file)) {
+			final Enumeration<? extends ZipEntry> entries = zip.entries();
+			while (entries.hasMoreElements()) {
+				final String name = entries.nextElement().getName();
+				if (!shouldIgnore(name) && patternFile.matcher(name).matches()) {
+					names.add(name);
+				}
+			}
+		} catch (final IOException e) {
+			ILog.get().warn("Can't list " + installLocation, e); //$NON-NLS-1$
+			return null;
+		}
+		listing = new JarListing(length, modified, bundleId, names);
+		jarListings.put(installLocation, listing);
+		jarListingsDirty = true;
+		return listing;
+	}
+
+	private Path getIndexFile() {
+		try {
+			final Bundle bundle = FrameworkUtil.getBundle(TargetPlatformContributionCollector.class);
+			return Platform.getStateLocation(bundle).append(getClass().getSimpleName() + ".index").toPath(); //$NON-NLS-1$
+		} catch (final RuntimeException e) {
+			// no state location, e.g. when running outside of OSGi
+			return null;
+		}
+	}
+
+	private void loadJarListings() {
+		if (jarListingsLoaded) {
+			return;
+		}
+		jarListingsLoaded = true;
+		final Path file = getIndexFile();
+		if (file == null || !Files.isRegularFile(file)) {
+			return;
+		}
+		try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+			if (in.readInt() != INDEX_VERSION) {
+				return;
+			}
+			final int count = in.readInt();
+			for (int i = 0; i < count; i++) {
+				final String location = in.readUTF();
+				final long length = in.readLong();
+				final long modified = in.readLong();
+				final String bundleId = in.readUTF();
+				final int size = in.readInt();
+				final List<String> names = new ArrayList<>(size);
+				for (int j = 0; j < size; j++) {
+					names.add(in.readUTF());
+				}
+				jarListings.put(location, new JarListing(length, modified, bundleId.isEmpty() ? null : bundleId, names));
+			}
+		} catch (final IOException e) {
+			// a broken index is simply rebuilt
+			jarListings.clear();
+		}
+	}
+
+	private void saveJarListings() {
+		final Path file = getIndexFile();
+		if (!jarListingsDirty || file == null) {
+			return;
+		}
+		jarListingsDirty = false;
+		// write a temporary file first, so a crash or a concurrent load never
+		// sees a partially written index
+		Path tmp = null;
+		try {
+			tmp = Files.createTempFile(file.getParent(), file.getFileName().toString(), ".tmp"); //$NON-NLS-1$
+			try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tmp)))) {
+				out.writeInt(INDEX_VERSION);
+				final Map<String, JarListing> snapshot = new HashMap<>(jarListings);
+				out.writeInt(snapshot.size());
+				for (final Map.Entry<String, JarListing> entry : snapshot.entrySet()) {
+					final JarListing listing = entry.getValue();
+					out.writeUTF(entry.getKey());
+					out.writeLong(listing.length());
+					out.writeLong(listing.modified());
+					out.writeUTF(Objects.toString(listing.bundleId(), "")); //$NON-NLS-1$
+					out.writeInt(listing.names().size());
+					for (final String name : listing.names()) {
+						out.writeUTF(name);
+					}
+				}
+			}
+			try {
+				Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+			} catch (final AtomicMoveNotSupportedException e) {
+				Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING);
+			}
+		} catch (final IOException e) {
+			ILog.get().warn("Can't save " + file, e); //$NON-NLS-1$
+			if (tmp != null) {
+				try {
+					Files.deleteIfExists(tmp);
+				} catch (final IOException ex) {
+					// nothing more we can do
+				}
+			}
+		}
+	}
+
 	static private String stripOutputDirectory(String path, String installLocation) {
 		if (installLocation.matches(".*\\.jar")) { //$NON-NLS-1$
 			return path;
@@ -576,16 +739,14 @@ public abstract class TargetPlatformContributionCollector extends ClassContribut
 	 * A cache of the output directories for install locations (if install
 	 * location has a classpath file with appropriate output entries)
 	 */
-	static private HashMap<String, List<String>> outputDirectories = new HashMap<>();
+	static private Map<String, List<String>> outputDirectories = new ConcurrentHashMap<>();
 
 	// Returns the Eclipse output directories for an install location. The
 	// directories are relative to the install location.
 	// <classpathentry kind="output" path="bin"/>
 	static private List<String> getOutputDirectories(String installLocation) {
-		List<String> ret = outputDirectories.get(installLocation);
-		if (ret == null) {
-			ret = new ArrayList<>();
-			outputDirectories.put(installLocation, ret);
+		return outputDirectories.computeIfAbsent(installLocation, location -> {
+			final List<String> ret = new ArrayList<>();
 			try {
 				File file = new File(installLocation + File.separator + ".classpath"); //$NON-NLS-1$
 				final Document doc = XmlProcessorFactory.parseWithErrorOnDOCTYPE(file);
@@ -598,8 +759,8 @@ public abstract class TargetPlatformContributionCollector extends ClassContribut
 				}
 			} catch (final Exception e) {
 			}
-		}
-		return ret;
+			return ret;
+		});
 	}
 
 	protected boolean shouldIgnore(String name) {
@@ -342,6 +342,8 @@ public class BuildpathQuickFixProcessor implements IQuickFixProcessor {
 	private Workspace					workspace;
 	Map<BundleId, Map<String, Boolean>>	proposals;
 	Set<ITypeBinding>					visited;
+	private ProjectBuilder				builder;
+	private Map<String, Boolean>		onBuildOrTestPath;
 	IProblemLocation					location;
 	final ASTVisitor					TYPE_VISITOR	= new ASTVisitor() {
 															@Override
@@ -373,6 +375,7 @@ public class BuildpathQuickFixProcessor implements IQuickFixProcessor {
 			this.context = context;
 			proposals = new HashMap<>();
 			visited = new HashSet<>();
+			onBuildOrTestPath = new HashMap<>();
 
 			ICompilationUnit compUnit = context.getCompilationUnit();
 			IJavaProject java = compUnit.getJavaProject();
@@ -684,6 +687,11 @@ public class BuildpathQuickFixProcessor implements IQuickFixProcessor {
 
 		Exception e) {
 			throw Exceptions.duck(e);
+		} finally {
+			if (builder != null) {
+				builder.close();
+				builder = null;
+			}
 		}
 	}
 
@@ -762,7 +770,7 @@ public class BuildpathQuickFixProcessor implements IQuickFixProcessor {
 				.filter(Objects::nonNull)
 				.map(IPackageDeclaration::getElementName)
 				.anyMatch(packageName::equals)) {
-				doAddProposals(workspace.search(packageName, className), true);
+				doAddProposals(ClassSearchCache.search(workspace, packageName, className), true);
 				return;
 			}
 		}
@@ -802,34 +810,41 @@ public class BuildpathQuickFixProcessor implements IQuickFixProcessor {
 		boolean doImport = Descriptors.determine(partialClassName)
 			.map(sa -> sa[0] == null)
 			.orElse(false);
-		doAddProposals(workspace.search(partialClassName), doImport);
+		doAddProposals(ClassSearchCache.search(workspace, partialClassName), doImport);
 	}
 
 	private void addProposals(String packageName, String className) throws CoreException, Exception {
-		doAddProposals(workspace.search(packageName, className), packageName == null || packageName.length() == 0);
+		doAddProposals(ClassSearchCache.search(workspace, packageName, className),
+			packageName == null || packageName.length() == 0);
 	}
 
 	private void doAddProposals(Result<Map<String, List<BundleId>>> wrappedResult, boolean doImport)
 		throws CoreException, Exception {
-		try (ProjectBuilder pb = new ProjectBuilder(project)) {
+		Map<String, List<BundleId>> result = wrappedResult
+			.orElseThrow(s -> new CoreException(new Status(IStatus.ERROR, getClass(), s)));
+
+		// the same builder (and its classpath) is used for all the searches
+		// of one invocation, creating it is expensive
+		ProjectBuilder pb = getProjectBuilder();
+		result.entrySet()
+			.stream()
+			.filter(e -> !onBuildOrTestPath.computeIfAbsent(e.getKey(), fqn -> isOnBuildOrTestPath(pb, fqn)))
+			.forEach(e -> {
+				for (BundleId id : e.getValue()) {
+					proposals.computeIfAbsent(id, newBundleId -> new HashMap<>())
+						.merge(e.getKey(), doImport, (oldVal, newVal) -> oldVal || newVal);
+				}
+			});
+	}
 
+	private ProjectBuilder getProjectBuilder() throws Exception {
+		if (builder == null) {
+			builder = new ProjectBuilder(project);
 			if (test) {
-				pb.includeTestpath();
+				builder.includeTestpath();
 			}
-
-			Map<String, List<BundleId>> result = wrappedResult
-				.orElseThrow(s -> new CoreException(new Status(IStatus.ERROR, getClass(), s)));
-
-			result.entrySet()
-				.stream()
-				.filter(e -> !isOnBuildOrTestPath(pb, e.getKey()))
-				.forEach(e -> {
-					for (BundleId id : e.getValue()) {
-						proposals.computeIfAbsent(id, newBundleId -> new HashMap<>())
-							.merge(e.getKey(), doImport, (oldVal, newVal) -> oldVal || newVal);
-					}
-				});
 		}
+		return builder;
 	}
 
 	private boolean isOnBuildOrTestPath(ProjectBuilder pb, String fqn) {
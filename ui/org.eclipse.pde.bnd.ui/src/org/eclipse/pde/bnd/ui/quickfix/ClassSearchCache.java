@@ -0,0 +1,110 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.bnd.ui.quickfix;
+
+import java.io.File;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.osgi.service.component.annotations.Component;
+
+import aQute.bnd.build.Workspace;
+import aQute.bnd.osgi.BundleId;
+import aQute.bnd.osgi.Jar;
+import aQute.bnd.result.Result;
+import aQute.bnd.service.RepositoryListenerPlugin;
+import aQute.bnd.service.RepositoryPlugin;
+
+/**
+ * Remembers the results of class searches in the repositories of a bnd
+ * workspace, so computing quick fixes for the same missing types again (e.g.
+ * hover and quick fix popup for one problem) does not need to query all the
+ * (possibly remote) repositories again. The results are dropped whenever a
+ * repository reports a change and otherwise expire after a while, as not all
+ * repositories report their changes (e.g. a reloaded target platform).
+ */
+@Component(service = RepositoryListenerPlugin.class)
+public class ClassSearchCache implements RepositoryListenerPlugin {
+
+	private static final long MAX_AGE = TimeUnit.MINUTES.toMillis(5);
+
+	private static final Map<Workspace, Results> cache = new WeakHashMap<>();
+
+	private record Results(long created, Map<String, Result<Map<String, List<BundleId>>>> searches) {
+	}
+
+	static Result<Map<String, List<BundleId>>> search(Workspace workspace, String partialFqn) throws Exception {
+		return search(workspace, "fqn:" + partialFqn, () -> workspace.search(partialFqn)); //$NON-NLS-1$
+	}
+
+	static Result<Map<String, List<BundleId>>> search(Workspace workspace, String packageName, String className)
+		throws Exception {
+		return search(workspace, "class:" + packageName + ':' + className, //$NON-NLS-1$
+			() -> workspace.search(packageName, className));
+	}
+
+	private static Result<Map<String, List<BundleId>>> search(Workspace workspace, String key,
+		Callable<Result<Map<String, List<BundleId>>>> search) throws Exception {
+		Map<String, Result<Map<String, List<BundleId>>>> searches = getSearches(workspace);
+		Result<Map<String, List<BundleId>>> result = searches.get(key);
+		if (result == null) {
+			// searching is slow, so don't block others while doing it, at
+			// worst the same search is done twice
+			result = search.call();
+			if (result.isOk()) {
+				searches.put(key, result);
+			}
+		}
+		return result;
+	}
+
+	private static synchronized Map<String, Result<Map<String, List<BundleId>>>> getSearches(Workspace workspace) {
+		long now = System.currentTimeMillis();
+		Results results = cache.get(workspace);
+		if (results == null || now - results.created() > MAX_AGE) {
+			results = new Results(now, new ConcurrentHashMap<>());
+			cache.put(workspace, results);
+		}
+		return results.searches();
+	}
+
+	private static synchronized void clear() {
+		cache.clear();
+	}
+
+	@Override
+	public void bundleAdded(RepositoryPlugin repository, Jar jar, File file) {
+		clear();
+	}
+
+	@Override
+	public void bundleRemoved(RepositoryPlugin repository, Jar jar, File file) {
+		clear();
+	}
+
+	@Override
+	public void repositoryRefreshed(RepositoryPlugin repository) {
+		clear();
+	}
+
+	@Override
+	public void repositoriesRefreshed() {
+		clear();
+	}
+
+}
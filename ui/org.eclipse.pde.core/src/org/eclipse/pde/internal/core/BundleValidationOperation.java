@@ -13,10 +13,19 @@
  *******************************************************************************/
 package org.eclipse.pde.internal.core;
 
+import java.lang.ref.SoftReference;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Dictionary;
+import java.util.Enumeration;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Map.Entry;
 import java.util.Set;
 
 import org.eclipse.core.resources.IWorkspaceRunnable;
@@ -36,9 +45,26 @@ public class BundleValidationOperation implements IWorkspaceRunnable {
 
 	private static StateObjectFactory FACTORY;
 
+	/**
+	 * The resolved state of the last validation together with the copies of
+	 * the bundle descriptions it was built from and the platform properties it
+	 * was resolved against. Launches mostly validate the same bundles, so the
+	 * next validation only adds and removes the bundles that differ. It is
+	 * only softly referenced, as it keeps the bundle descriptions of the PDE
+	 * state it was built from.
+	 */
+	private static record ResolvedState(State state, Map<BundleDescription, BundleDescription> copies,
+			List<Map<String, String>> properties) {
+	}
+
+	private static SoftReference<ResolvedState> fLastResolved;
+
 	private final Set<IPluginModelBase> fModels;
 	private final Dictionary<String, String>[] fProperties;
 	private State fState;
+	private Map<Object, Object[]> fResolverErrors;
+	private boolean fHasErrors;
+	private Set<String> fSymbolicNames;
 
 	@SuppressWarnings("unchecked")
 	public BundleValidationOperation(Set<IPluginModelBase> models) {
@@ -56,20 +82,95 @@ public class BundleValidationOperation implements IWorkspaceRunnable {
 			FACTORY = BundleHelper.getPlatformAdmin().getFactory();
 		}
 		SubMonitor subMonitor = SubMonitor.convert(monitor, fModels.size() + 1);
-		fState = FACTORY.createState(true);
-		for (IPluginModelBase fModel : fModels) {
-			BundleDescription bundle = fModel.getBundleDescription();
-			if (bundle != null) {
-				fState.addBundle(FACTORY.createBundleDescription(bundle));
+		synchronized (BundleValidationOperation.class) {
+			List<Map<String, String>> properties = toMaps(fProperties);
+			ResolvedState last = fLastResolved != null ? fLastResolved.get() : null;
+			boolean incremental = last != null && last.properties().equals(properties);
+			Map<BundleDescription, BundleDescription> copies;
+			if (incremental) {
+				// only apply the bundles that changed since the last validation
+				fState = last.state();
+				copies = last.copies();
+			} else {
+				fState = FACTORY.createState(true);
+				fState.setPlatformProperties(fProperties);
+				copies = new IdentityHashMap<>();
+			}
+			Set<BundleDescription> requested = Collections.newSetFromMap(new IdentityHashMap<>());
+			for (IPluginModelBase fModel : fModels) {
+				BundleDescription bundle = fModel.getBundleDescription();
+				if (bundle != null) {
+					requested.add(bundle);
+				}
+			}
+			boolean changed = false;
+			// adding or removing a singleton can change which of the already
+			// resolved bundles are selected, only a full resolve handles that
+			boolean singletonChanged = false;
+			for (Iterator<Entry<BundleDescription, BundleDescription>> iterator = copies.entrySet().iterator(); iterator.hasNext();) {
+				Entry<BundleDescription, BundleDescription> entry = iterator.next();
+				if (!requested.contains(entry.getKey())) {
+					fState.removeBundle(entry.getValue());
+					iterator.remove();
+					changed = true;
+					singletonChanged |= entry.getValue().isSingleton();
+				}
 			}
-			subMonitor.split(1);
+			for (IPluginModelBase fModel : fModels) {
+				BundleDescription bundle = fModel.getBundleDescription();
+				if (bundle != null && !copies.containsKey(bundle)) {
+					BundleDescription copy = FACTORY.createBundleDescription(bundle);
+					fState.addBundle(copy);
+					copies.put(bundle, copy);
+					changed = true;
+					singletonChanged |= copy.isSingleton();
+				}
+				subMonitor.split(1);
+			}
+			if (changed || !incremental) {
+				fState.resolve(incremental && !singletonChanged);
+			}
+			fLastResolved = new SoftReference<>(new ResolvedState(fState, copies, properties));
+			// the state is updated by the next validation, keep the results of this one
+			fResolverErrors = computeResolverErrors();
+			fHasErrors = computeHasErrors();
+			fSymbolicNames = new HashSet<>();
+			for (BundleDescription bundle : fState.getBundles()) {
+				fSymbolicNames.add(bundle.getSymbolicName());
+			}
+			fState = null;
 		}
-		fState.setPlatformProperties(fProperties);
-		fState.resolve(false);
 		subMonitor.split(1);
 	}
 
+	/**
+	 * Discards the state kept from the last validation, so that the next one
+	 * resolves all bundles from scratch.
+	 */
+	public static void clearResolvedState() {
+		synchronized (BundleValidationOperation.class) {
+			fLastResolved = null;
+		}
+	}
+
+	private static List<Map<String, String>> toMaps(Dictionary<String, String>[] dictionaries) {
+		List<Map<String, String>> result = new ArrayList<>(dictionaries.length);
+		for (Dictionary<String, String> dictionary : dictionaries) {
+			Map<String, String> map = new HashMap<>();
+			for (Enumeration<String> keys = dictionary.keys(); keys.hasMoreElements();) {
+				String key = keys.nextElement();
+				map.put(key, dictionary.get(key));
+			}
+			result.add(map);
+		}
+		return result;
+	}
+
 	public Map<Object, Object[]> getResolverErrors() {
+		return fResolverErrors;
+	}
+
+	private Map<Object, Object[]> computeResolverErrors() {
 		Set<String> alreadyDuplicated = new HashSet<>();
 		Map<Object, Object[]> map = new LinkedHashMap<>();
 		BundleDescription[] bundles = fState.getBundles();
@@ -92,22 +193,33 @@ public class BundleValidationOperation implements IWorkspaceRunnable {
 		return map;
 	}
 
-	public State getState() {
-		return fState;
+	/**
+	 * @return whether a bundle with the given symbolic name was validated
+	 */
+	public boolean containsBundle(String symbolicName) {
+		return fSymbolicNames.contains(symbolicName);
+	}
+
+	/**
+	 * @return whether no bundle at all was validated
+	 */
+	public boolean isEmpty() {
+		return fSymbolicNames.isEmpty();
 	}
 
 	public boolean hasErrors() {
-		if (fState.getHighestBundleId() > -1) {
-			BundleDescription[] bundles = fState.getBundles();
-			for (BundleDescription bundle : bundles) {
-				if (!bundle.isResolved()) {
+		return fHasErrors;
+	}
+
+	private boolean computeHasErrors() {
+		for (BundleDescription bundle : fState.getBundles()) {
+			if (!bundle.isResolved()) {
+				return true;
+			} else if (bundle.isSingleton()) {
+				BundleDescription[] dups = fState.getBundles(bundle.getSymbolicName());
+				if (dups.length > 1) {
+					// more than one singleton
 					return true;
-				} else if (bundle.isSingleton()) {
-					BundleDescription[] dups = fState.getBundles(bundle.getSymbolicName());
-					if (dups.length > 1) {
-						// more than one singleton
-						return true;
-					}
 				}
 			}
 		}
@@ -19,6 +19,7 @@ package org.eclipse.pde.internal.core;
 import java.io.File;
 import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.OutputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
@@ -91,6 +92,10 @@ public class ClasspathHelper {
 	public static Path writeDevEntries(String fileName, Properties properties) throws CoreException {
 		Path file = Path.of(fileName);
 		try {
+			if (hasContent(file, properties)) {
+				// unchanged since the last launch, keep the file as is
+				return file;
+			}
 			Files.createDirectories(file.getParent());
 			try (OutputStream stream = new FileOutputStream(fileName)) {
 				properties.store(stream, ""); //$NON-NLS-1$
@@ -102,6 +107,23 @@ public class ClasspathHelper {
 		}
 	}
 
+	/**
+	 * Checks whether the given properties file exists and holds exactly the
+	 * given properties, so that writing it again can be skipped.
+	 */
+	public static boolean hasContent(Path file, Properties properties) {
+		if (!Files.isRegularFile(file)) {
+			return false;
+		}
+		Properties existing = new Properties();
+		try (InputStream stream = Files.newInputStream(file)) {
+			existing.load(stream);
+		} catch (IOException | IllegalArgumentException e) {
+			return false;
+		}
+		return existing.equals(properties);
+	}
+
 	public static Properties getDevEntriesProperties(Map<String, List<IPluginModelBase>> bundlesMap,
 			boolean checkExcluded) {
 
@@ -262,8 +284,33 @@ public class ClasspathHelper {
 
 	private static Set<IPath> getDevPaths(IPluginModelBase model, boolean checkExcluded, Set<IPluginModelBase> plugins) {
 		IProject project = model.getUnderlyingResource().getProject();
+		DevClasspathCache cache = PDECore.getDefault().getDevClasspathCache();
+		Set<IPath> paths = cache.get(project, model, checkExcluded);
+		if (paths == null) {
+			boolean[] cacheable = { true };
+			paths = computeDevPaths(model, checkExcluded, plugins, cacheable);
+			if (cacheable[0]) {
+				cache.put(project, model, checkExcluded, paths);
+			}
+		}
+		return paths;
+	}
+
+	/**
+	 * Computes the dev classpath of the given workspace model. The computed
+	 * paths are only cacheable if they depend on nothing but the project
+	 * itself, that is no fragments had to be searched and no bundle classpath
+	 * resolvers contributed to them.
+	 */
+	private static Set<IPath> computeDevPaths(IPluginModelBase model, boolean checkExcluded,
+			Set<IPluginModelBase> plugins, boolean[] cacheable) {
+		IProject project = model.getUnderlyingResource().getProject();
 		if (PluginProject.isJavaProject(project)) {
 			try {
+				if (PDECore.getDefault().getClasspathContainerResolverManager()
+						.getBundleClasspathResolvers(project).length > 0) {
+					cacheable[0] = false;
+				}
 				Map<IPath, List<IPath>> classpathMap = getClasspathMap(project, checkExcluded, false);
 				IBuild build = getBuild(project);
 				Set<IPath> result = new LinkedHashSet<>();
@@ -284,6 +331,7 @@ public class ClasspathHelper {
 						for (int i = 0; i < libraries.length; i++) {
 							List<IPath> paths = findLibrary(libraries[i].getName(), project, classpathMap, build);
 							if (paths.isEmpty() && !libraries[i].getName().equals(DOT)) {
+								cacheable[0] = false;
 								paths = findLibraryFromFragments(libraries[i].getName(), model, checkExcluded, plugins);
 							}
 							addPaths(paths, project, result);
@@ -295,6 +343,7 @@ public class ClasspathHelper {
 				classpathMap.values().forEach(l -> addPaths(l, project, result));
 				return result;
 			} catch (CoreException e) {
+				cacheable[0] = false;
 			}
 		}
 		return Collections.emptySet();
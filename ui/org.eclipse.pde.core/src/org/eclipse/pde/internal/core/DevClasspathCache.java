@@ -0,0 +1,127 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.internal.core;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.resources.IResourceChangeEvent;
+import org.eclipse.core.resources.IResourceChangeListener;
+import org.eclipse.core.resources.IResourceDelta;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IPath;
+import org.eclipse.pde.core.plugin.IPluginModelBase;
+
+/**
+ * Caches the dev classpath entries computed by {@link ClasspathHelper} for
+ * workspace plug-ins, so that a relaunch does not have to walk the Java
+ * classpath and the build model of every project again.
+ * <p>
+ * The entries of a project are dropped when its classpath, project
+ * description, build.properties, plug-in manifests or settings change, or
+ * when folders or archives are added or removed in it, since output folders
+ * and libraries only contribute once they exist.
+ * </p>
+ */
+class DevClasspathCache implements IResourceChangeListener {
+
+	private static final Set<String> RELEVANT_FILES = Set.of(".classpath", ".project", //$NON-NLS-1$ //$NON-NLS-2$
+			ICoreConstants.BUILD_FILENAME_DESCRIPTOR, ICoreConstants.MANIFEST_FILENAME,
+			ICoreConstants.PLUGIN_FILENAME_DESCRIPTOR, ICoreConstants.FRAGMENT_FILENAME_DESCRIPTOR);
+	private static final Set<String> ARCHIVE_EXTENSIONS = Set.of("jar", "zip"); //$NON-NLS-1$ //$NON-NLS-2$
+	private static final String SETTINGS_FOLDER = ".settings"; //$NON-NLS-1$
+
+	private record Key(IPluginModelBase model, boolean checkExcluded) {
+	}
+
+	private final Map<IProject, Map<Key, Set<IPath>>> fEntries = new ConcurrentHashMap<>();
+
+	DevClasspathCache() {
+		PDECore.getWorkspace().addResourceChangeListener(this, IResourceChangeEvent.POST_CHANGE);
+	}
+
+	void shutdown() {
+		PDECore.getWorkspace().removeResourceChangeListener(this);
+		fEntries.clear();
+	}
+
+	/**
+	 * @return the cached dev classpath of the given model or <code>null</code>
+	 *         if there is none
+	 */
+	Set<IPath> get(IProject project, IPluginModelBase model, boolean checkExcluded) {
+		Map<Key, Set<IPath>> entries = fEntries.get(project);
+		return entries != null ? entries.get(new Key(model, checkExcluded)) : null;
+	}
+
+	void put(IProject project, IPluginModelBase model, boolean checkExcluded, Set<IPath> paths) {
+		fEntries.computeIfAbsent(project, p -> new ConcurrentHashMap<>()).put(new Key(model, checkExcluded),
+				Set.copyOf(paths));
+	}
+
+	@Override
+	public void resourceChanged(IResourceChangeEvent event) {
+		IResourceDelta delta = event.getDelta();
+		if (delta == null || fEntries.isEmpty()) {
+			return;
+		}
+		for (IResourceDelta projectDelta : delta.getAffectedChildren()) {
+			IProject project = (IProject) projectDelta.getResource();
+			if (fEntries.containsKey(project) && isRelevant(projectDelta)) {
+				fEntries.remove(project);
+			}
+		}
+	}
+
+	private static boolean isRelevant(IResourceDelta projectDelta) {
+		if (projectDelta.getKind() != IResourceDelta.CHANGED
+				|| (projectDelta.getFlags() & (IResourceDelta.OPEN | IResourceDelta.DESCRIPTION)) != 0) {
+			return true;
+		}
+		boolean[] relevant = new boolean[1];
+		try {
+			projectDelta.accept(delta -> {
+				if (relevant[0]) {
+					return false;
+				}
+				IResource resource = delta.getResource();
+				if (resource.getType() == IResource.FOLDER) {
+					if (delta.getKind() != IResourceDelta.CHANGED || SETTINGS_FOLDER.equals(resource.getName())) {
+						relevant[0] = true;
+						return false;
+					}
+				} else if (resource.getType() == IResource.FILE) {
+					if (RELEVANT_FILES.contains(resource.getName())
+							|| (delta.getKind() != IResourceDelta.CHANGED && isArchive(resource))) {
+						relevant[0] = true;
+					}
+				}
+				return !relevant[0];
+			});
+		} catch (CoreException e) {
+			return true;
+		}
+		return relevant[0];
+	}
+
+	private static boolean isArchive(IResource resource) {
+		String extension = resource.getFileExtension();
+		return extension != null && ARCHIVE_EXTENSIONS.contains(extension.toLowerCase(Locale.ENGLISH));
+	}
+
+}
@@ -27,9 +27,11 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Comparator;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Objects;
 import java.util.StringTokenizer;
 import java.util.stream.Collectors;
 
@@ -107,6 +109,18 @@ public class P2Utils {
 	public static final String NAMESPACE_ECLIPSE_TYPE = "org.eclipse.equinox.p2.eclipse.type"; //$NON-NLS-1$
 	public static final IProvidedCapability BUNDLE_CAPABILITY = MetadataFactory.createProvidedCapability(NAMESPACE_ECLIPSE_TYPE, TYPE_ECLIPSE_BUNDLE, Version.createOSGi(1, 0, 0));
 	public static final String CAPABILITY_NS_JAVA_PACKAGE = "java.package"; //$NON-NLS-1$
+	private static final String PROP_INCLUSION_RULES = "org.eclipse.equinox.p2.internal.inclusion.rules"; //$NON-NLS-1$
+	/**
+	 * The profile properties of installable units that are set when creating
+	 * a profile
+	 */
+	private static final List<String> IU_PROFILE_PROPERTIES = List.of(PROP_INCLUSION_RULES,
+			IProfile.PROP_PROFILE_ROOT_IU);
+	/**
+	 * The profile property marking installable units that were added to a
+	 * profile by PDE
+	 */
+	private static final String PROP_PDE_CREATED = "org.eclipse.pde.core.created"; //$NON-NLS-1$
 
 	/**
 	 * Returns bundles defined by the 'bundles.info' relative to the given
@@ -350,7 +364,8 @@ public class P2Utils {
 	 *
 	 * @param profileID
 	 *            the ID to be used when creating the profile, if a profile with
-	 *            the same name exists, it will be overwritten
+	 *            the same name exists, it will be updated to contain exactly
+	 *            the given metadata
 	 * @param p2DataArea
 	 *            the directory which contains p2 data including the profile
 	 *            registry, if the directory path doesn't exist it will be
@@ -375,7 +390,8 @@ public class P2Utils {
 	 *
 	 * @param profileID
 	 *            the ID to be used when creating the profile, if a profile with
-	 *            the same name exists, it will be overwritten
+	 *            the same name exists, it will be updated to contain exactly
+	 *            the given metadata
 	 * @param p2DataArea
 	 *            the directory which contains p2 data including the profile
 	 *            registry, if the directory path doesn't exist it will be
@@ -414,9 +430,6 @@ public class P2Utils {
 			throw new CoreException(Status.error(PDECoreMessages.P2Utils_UnableToAcquireP2Service));
 		}
 
-		// Delete any previous profiles with the same ID
-		registry.removeProfile(profileID);
-
 		Map<String, String> props = new HashMap<>();
 //		props.setProperty(IProfile.PROP_INSTALL_FOLDER, registryArea.getAbsolutePath());
 		props.put(IProfile.PROP_INSTALL_FEATURES, Boolean.TRUE.toString());
@@ -424,21 +437,12 @@ public class P2Utils {
 		props.put(IProfile.PROP_ENVIRONMENTS, generateEnvironmentProperties());
 		props.put(IProfile.PROP_NL, TargetPlatform.getNL());
 
-		// Create the profile
-		IProfile profile = registry.addProfile(profileID, props);
-
-		// Create metadata for the bundles
-		Collection<IInstallableUnit> ius = bundles.stream().flatMap(Collection::stream)
-				.map(IPluginModelBase::getBundleDescription).map(P2Utils::createBundleIU) //
-				.collect(Collectors.toList());
-
-		// Add the metadata to the profile
-		ProvisioningContext context = new ProvisioningContext(agent);
-		IProvisioningPlan plan = engine.createPlan(profile, context);
-		for (final IInstallableUnit iu : ius) {
-			plan.addInstallableUnit(iu);
-			plan.setInstallableUnitProfileProperty(iu, "org.eclipse.equinox.p2.internal.inclusion.rules", ProfileInclusionRules.createOptionalInclusionRule(iu)); //$NON-NLS-1$
-		}
+		// Create metadata for the bundles, features and product together with
+		// their profile properties
+		Map<IInstallableUnit, Map<String, String>> units = new LinkedHashMap<>();
+		bundles.stream().flatMap(Collection::stream).map(IPluginModelBase::getBundleDescription)
+				.map(P2Utils::createBundleIU).forEach(iu -> units.put(iu,
+						Map.of(PROP_INCLUSION_RULES, ProfileInclusionRules.createOptionalInclusionRule(iu))));
 		if (featureMap != null && !featureMap.isEmpty()) {
 			Map<String, List<IPluginBase>> plugins = bundles.stream().flatMap(Collection::stream)
 					.map(IPluginModelBase::getPluginBase)
@@ -446,7 +450,7 @@ public class P2Utils {
 			Map<String, List<IFeature>> features = featureMap.keySet().stream()
 					.collect(Collectors.groupingBy(IFeature::getId));
 			for (Entry<IFeature, Boolean> featureEntry : featureMap.entrySet()) {
-				createFeatureIUs(featureEntry.getKey(), featureEntry.getValue(), plan, plugins, features);
+				createFeatureIUs(featureEntry.getKey(), featureEntry.getValue(), units, plugins, features);
 			}
 		}
 		if (productInfo != null) {
@@ -599,9 +603,59 @@ public class P2Utils {
 			}, P2_FLAVOR_DEFAULT, null);
 			PublisherResult results = new PublisherResult();
 			productAction.perform(new PublisherInfo(), results, null);
-			results.query(QueryUtil.ALL_UNITS, null).forEach(plan::addInstallableUnit);
+			results.query(QueryUtil.ALL_UNITS, null).forEach(iu -> units.put(iu, Map.of()));
+		}
+
+		// Reuse a previous profile with the same ID if it only contains what
+		// PDE put there and none of its metadata changed, it is updated below.
+		// The engine identifies units by id and version only, so a unit whose
+		// metadata changed without a new version can't be updated in place.
+		// In that case, or if the launched application installed something
+		// itself, the profile is created again from scratch
+		IProfile profile = registry.getProfile(profileID);
+		boolean update = profile != null && isCreatedByPDE(profile) && hasSameContent(profile, units.keySet());
+		if (!update) {
+			registry.removeProfile(profileID);
+			profile = registry.addProfile(profileID, props);
+		}
+
+		// Only apply the differences to the metadata already in the profile,
+		// if there are none the engine is not needed at all. A new profile is
+		// empty, so all metadata is added to it
+		ProvisioningContext context = new ProvisioningContext(agent);
+		IProvisioningPlan plan = engine.createPlan(profile, context);
+		boolean changed = false;
+		for (Entry<String, String> property : props.entrySet()) {
+			if (!property.getValue().equals(profile.getProperty(property.getKey()))) {
+				plan.setProfileProperty(property.getKey(), property.getValue());
+				changed = true;
+			}
+		}
+		Map<IInstallableUnit, IInstallableUnit> installed = new HashMap<>();
+		profile.query(QueryUtil.ALL_UNITS, null).forEach(iu -> installed.put(iu, iu));
+		for (Entry<IInstallableUnit, Map<String, String>> unit : units.entrySet()) {
+			IInstallableUnit iu = unit.getKey();
+			IInstallableUnit current = installed.remove(iu);
+			if (current != null && hasProfileProperties(profile, current, unit.getValue())) {
+				continue;
+			}
+			if (current == null) {
+				plan.addInstallableUnit(iu);
+			}
+			unit.getValue().forEach((key, value) -> plan.setInstallableUnitProfileProperty(iu, key, value));
+			plan.setInstallableUnitProfileProperty(iu, PROP_PDE_CREATED, Boolean.TRUE.toString());
+			changed = true;
+		}
+		for (IInstallableUnit iu : installed.keySet()) {
+			plan.removeInstallableUnit(iu);
+			changed = true;
 		}
-		IPhaseSet phaseSet = PhaseSetFactory.createDefaultPhaseSetExcluding(new String[] {PhaseSetFactory.PHASE_CHECK_TRUST, PhaseSetFactory.PHASE_COLLECT, PhaseSetFactory.PHASE_CONFIGURE, PhaseSetFactory.PHASE_UNCONFIGURE, PhaseSetFactory.PHASE_UNINSTALL});
+		if (!changed) {
+			return;
+		}
+		IPhaseSet phaseSet = update //
+				? PhaseSetFactory.createDefaultPhaseSetExcluding(new String[] {PhaseSetFactory.PHASE_CHECK_TRUST, PhaseSetFactory.PHASE_COLLECT, PhaseSetFactory.PHASE_CONFIGURE, PhaseSetFactory.PHASE_UNCONFIGURE})
+				: PhaseSetFactory.createDefaultPhaseSetExcluding(new String[] {PhaseSetFactory.PHASE_CHECK_TRUST, PhaseSetFactory.PHASE_COLLECT, PhaseSetFactory.PHASE_CONFIGURE, PhaseSetFactory.PHASE_UNCONFIGURE, PhaseSetFactory.PHASE_UNINSTALL});
 		IStatus status = engine.perform(plan, phaseSet, new NullProgressMonitor());
 
 		if (!status.isOK() && status.getSeverity() != IStatus.CANCEL) {
@@ -610,6 +664,61 @@ public class P2Utils {
 
 	}
 
+	/**
+	 * Checks if an installable unit from a profile has the same metadata
+	 * relevant for launching as a newly created one with the same id and
+	 * version, e.g. the manifest of a workspace bundle might have changed
+	 * without changing its version.
+	 */
+	private static boolean hasSameContent(IInstallableUnit installed, IInstallableUnit iu) {
+		return installed.isSingleton() == iu.isSingleton() && Objects.equals(installed.getFilter(), iu.getFilter())
+				&& Objects.equals(installed.getTouchpointType(), iu.getTouchpointType())
+				&& installed.getProperties().equals(iu.getProperties())
+				&& List.copyOf(installed.getRequirements()).equals(List.copyOf(iu.getRequirements()))
+				&& List.copyOf(installed.getMetaRequirements()).equals(List.copyOf(iu.getMetaRequirements()))
+				&& List.copyOf(installed.getProvidedCapabilities()).equals(List.copyOf(iu.getProvidedCapabilities()))
+				&& List.copyOf(installed.getTouchpointData()).equals(List.copyOf(iu.getTouchpointData()));
+	}
+
+	/**
+	 * Checks if all installable units of a profile that are requested again
+	 * have the same metadata as the newly created ones.
+	 */
+	private static boolean hasSameContent(IProfile profile, Collection<IInstallableUnit> units) {
+		Map<IInstallableUnit, IInstallableUnit> requested = new HashMap<>();
+		units.forEach(iu -> requested.put(iu, iu));
+		for (IInstallableUnit installed : profile.query(QueryUtil.ALL_UNITS, null)) {
+			IInstallableUnit iu = requested.get(installed);
+			if (iu != null && !hasSameContent(installed, iu)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Checks if all installable units of a profile were added by PDE, so they
+	 * can safely be updated and removed again.
+	 */
+	private static boolean isCreatedByPDE(IProfile profile) {
+		for (IInstallableUnit iu : profile.query(QueryUtil.ALL_UNITS, null)) {
+			if (!Boolean.parseBoolean(profile.getInstallableUnitProperty(iu, PROP_PDE_CREATED))) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private static boolean hasProfileProperties(IProfile profile, IInstallableUnit installed,
+			Map<String, String> properties) {
+		for (String key : IU_PROFILE_PROPERTIES) {
+			if (!Objects.equals(properties.get(key), profile.getInstallableUnitProperty(installed, key))) {
+				return false;
+			}
+		}
+		return true;
+	}
+
 	/**
 	 * Generates the environment properties string for the self hosting p2 profile by looking up the current target platform properties.
 	 *
@@ -628,7 +737,7 @@ public class P2Utils {
 		return env.toString();
 	}
 
-	private static void createFeatureIUs(IFeature feature, boolean root, IProvisioningPlan plan,
+	private static void createFeatureIUs(IFeature feature, boolean root, Map<IInstallableUnit, Map<String, String>> units,
 			Map<String, List<IPluginBase>> plugins, Map<String, List<IFeature>> features) {
 		// see
 		// org.eclipse.equinox.p2.publisher.eclipse.FeaturesAction.createGroupIU(Feature,
@@ -709,10 +818,7 @@ public class P2Utils {
 						iu.getVersion()));
 		iu.setCapabilities(providedCapabilities.toArray(IProvidedCapability[]::new));
 		IInstallableUnit unit = MetadataFactory.createInstallableUnit(iu);
-		plan.addInstallableUnit(unit);
-		if (root) {
-			plan.setInstallableUnitProfileProperty(unit, IProfile.PROP_PROFILE_ROOT_IU, Boolean.TRUE.toString());
-		}
+		units.put(unit, root ? Map.of(IProfile.PROP_PROFILE_ROOT_IU, Boolean.TRUE.toString()) : Map.of());
 	}
 
 	public static VersionRange getRangeForImport(IFeatureImport featureImport) {
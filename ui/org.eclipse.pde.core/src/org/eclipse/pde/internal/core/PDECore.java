@@ -43,10 +43,12 @@ import org.eclipse.pde.core.target.ITargetDefinition;
 import org.eclipse.pde.core.target.ITargetPlatformService;
 import org.eclipse.pde.internal.core.bnd.BndResourceChangeListener;
 import org.eclipse.pde.internal.core.bnd.BndWorkspaceServiceFactory;
+import org.eclipse.pde.internal.core.bnd.ContentHashStore;
 import org.eclipse.pde.internal.core.builders.FeatureRebuilder;
 import org.eclipse.pde.internal.core.builders.PluginRebuilder;
 import org.eclipse.pde.internal.core.project.BundleProjectService;
 import org.eclipse.pde.internal.core.schema.SchemaRegistry;
+import org.eclipse.pde.internal.core.search.PluginSearchIndex;
 import org.eclipse.pde.internal.core.target.P2TargetUtils;
 import org.eclipse.pde.internal.core.target.TargetPlatformService;
 import org.osgi.framework.BundleContext;
@@ -178,6 +180,8 @@ public class PDECore extends Plugin implements DebugOptionsListener {
 	private SourceLocationManager fSourceLocationManager;
 	private JavadocLocationManager fJavadocLocationManager;
 	private SearchablePluginsManager fSearchablePluginsManager;
+	private PluginSearchIndex fPluginSearchIndex;
+	private DevClasspathCache fDevClasspathCache;
 	private ClasspathContainerResolverManager fClasspathContainerResolverManager;
 
 	// Tracing options manager
@@ -316,6 +320,20 @@ public class PDECore extends Plugin implements DebugOptionsListener {
 		return fSearchablePluginsManager;
 	}
 
+	public synchronized PluginSearchIndex getPluginSearchIndex() {
+		if (fPluginSearchIndex == null) {
+			fPluginSearchIndex = new PluginSearchIndex();
+		}
+		return fPluginSearchIndex;
+	}
+
+	synchronized DevClasspathCache getDevClasspathCache() {
+		if (fDevClasspathCache == null) {
+			fDevClasspathCache = new DevClasspathCache();
+		}
+		return fDevClasspathCache;
+	}
+
 	public boolean areModelsInitialized() {
 		return getModelManager().isInitialized();
 	}
@@ -399,6 +417,14 @@ public class PDECore extends Plugin implements DebugOptionsListener {
 			fSearchablePluginsManager.shutdown();
 			fSearchablePluginsManager = null;
 		}
+		if (fPluginSearchIndex != null) {
+			fPluginSearchIndex.shutdown();
+			fPluginSearchIndex = null;
+		}
+		if (fDevClasspathCache != null) {
+			fDevClasspathCache.shutdown();
+			fDevClasspathCache = null;
+		}
 		if (fFeatureModelManager != null) {
 			fFeatureModelManager.shutdown();
 			fFeatureModelManager = null;
@@ -411,6 +437,7 @@ public class PDECore extends Plugin implements DebugOptionsListener {
 		}
 
 		PluginModelManager.shutdownInstance();
+		ContentHashStore.shutdown();
 
 		if (fTargetPlatformService != null) {
 			fTargetPlatformService.unregister();
@@ -44,6 +44,8 @@ public class PDEExtensionRegistry {
 	private final Object fUserKey = new Object();
 	private IExtensionRegistry fRegistry = null;
 	private PDERegistryStrategy fStrategy = null;
+	// the contributions stamp of the models the current registry was created from
+	private long fRegistryStamp;
 
 	private IPluginModelBase[] fModels = null;
 	private final ArrayList<IRegistryChangeListener> fListeners = new ArrayList<>();
@@ -92,6 +94,7 @@ public class PDEExtensionRegistry {
 
 	protected synchronized IExtensionRegistry getRegistry() {
 		if (fRegistry == null) {
+			fRegistryStamp = fStrategy.getContributionsTimestamp();
 			fRegistry = createRegistry();
 			for (ListIterator<IRegistryChangeListener> li = fListeners.listIterator(); li.hasNext();) {
 				fRegistry.addRegistryChangeListener(li.next());
@@ -105,12 +108,15 @@ public class PDEExtensionRegistry {
 	}
 
 	public void targetReloaded() {
-		// stop old registry (which will write contents to FS) and delete the cache it creates
-		// might see if we can dispose of a registry without writing to file system.  NOTE: Don't call stop() because we want to still reuse fStrategy
+		// stop old registry (which will write contents to FS).  NOTE: Don't call stop() because we want to still reuse fStrategy
+		// The written cache is stamped with the contributions of the already reloaded models, so it is only
+		// kept if these are the same the registry was created from and deleted otherwise
 		if (fRegistry != null) {
 			fRegistry.stop(fMasterKey);
+			if (fStrategy.getContributionsTimestamp() != fRegistryStamp) {
+				CoreUtility.deleteContent(new File(PDECore.getDefault().getStateLocation().toFile(), EXTENSION_DIR));
+			}
 		}
-		CoreUtility.deleteContent(new File(PDECore.getDefault().getStateLocation().toFile(), EXTENSION_DIR));
 		fRegistry = null;
 	}
 
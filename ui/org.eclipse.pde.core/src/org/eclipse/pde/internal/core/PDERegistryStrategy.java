@@ -13,11 +13,13 @@
  *******************************************************************************/
 package org.eclipse.pde.internal.core;
 
-import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
 import java.io.File;
-import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.List;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipFile;
 
@@ -38,6 +40,19 @@ import org.osgi.util.tracker.ServiceTracker;
 
 public class PDERegistryStrategy extends RegistryStrategy {
 
+	/**
+	 * Below this number of models, the extension files are read one after the
+	 * other.
+	 */
+	private static final int PARALLEL_READ_THRESHOLD = 16;
+
+	/**
+	 * The content of the extensions file of a bundle, read ahead of adding it to
+	 * the registry.
+	 */
+	private static record Contribution(IContributor contributor, String path, byte[] content) {
+	}
+
 	/**
 	 * Tracker for the XML parser service
 	 */
@@ -197,48 +212,69 @@ public class PDERegistryStrategy extends RegistryStrategy {
 	}
 
 	private void addBundles(IExtensionRegistry registry, IPluginModelBase[] bases) {
-		for (IPluginModelBase base : bases) {
-			addBundle(registry, base);
+		if (bases.length < PARALLEL_READ_THRESHOLD) {
+			for (IPluginModelBase base : bases) {
+				addContribution(registry, readContribution(registry, base));
+			}
+			return;
+		}
+		// reading the extension files of many bundles is dominated by I/O, so do it in parallel
+		// and only add the contributions in the given order, workspace models have to come first
+		List<Contribution> contributions = Arrays.stream(bases).parallel()
+				.map(base -> readContribution(registry, base)).toList();
+		for (Contribution contribution : contributions) {
+			addContribution(registry, contribution);
+		}
+	}
+
+	private void addContribution(IExtensionRegistry registry, Contribution contribution) {
+		if (contribution == null
+				|| ((IDynamicExtensionRegistry) registry).hasContributor(contribution.contributor())) {
+			return;
 		}
+		registry.addContribution(new ByteArrayInputStream(contribution.content()), contribution.contributor(), true,
+				contribution.path(), null, fKey);
 	}
 
-	private void addBundle(IExtensionRegistry registry, IPluginModelBase base) {
+	/**
+	 * Reads the extensions file of the given model. Returns <code>null</code>
+	 * if the model has no valid contributor, is already contributed or has no
+	 * extensions file.
+	 */
+	private Contribution readContribution(IExtensionRegistry registry, IPluginModelBase base) {
 		IContributor contributor = createContributor(base);
 		if (contributor == null) {
-			return;
+			return null;
 		}
 		if (((IDynamicExtensionRegistry) registry).hasContributor(contributor)) {
-			return;
+			return null;
 		}
 
 		File input = getFile(base);
 		if (input == null) {
-			return;
+			return null;
 		}
 		try {
 			if (new File(base.getInstallLocation()).isDirectory()) {
 				// Directory bundle, access the extensions file directly
-				try (InputStream is = new BufferedInputStream(new FileInputStream(input))) {
-					registry.addContribution(is, contributor, true, input.getPath(), null, fKey);
-				}
-			} else {
-				// Archived bundle, need to extract the file
-				try (ZipFile jfile = new ZipFile(input, ZipFile.OPEN_READ)) {
-					String fileName = (base.isFragmentModel()) ? ICoreConstants.FRAGMENT_FILENAME_DESCRIPTOR
-							: ICoreConstants.PLUGIN_FILENAME_DESCRIPTOR;
-					ZipEntry entry = jfile.getEntry(fileName);
-					if (entry != null) {
-						try (InputStream is = jfile.getInputStream(entry)) {
-							if (is != null) {
-								registry.addContribution(new BufferedInputStream(is), contributor, true,
-										input.getPath(), null, fKey);
-							}
+				return new Contribution(contributor, input.getPath(), Files.readAllBytes(input.toPath()));
+			}
+			// Archived bundle, need to extract the file
+			try (ZipFile jfile = new ZipFile(input, ZipFile.OPEN_READ)) {
+				String fileName = (base.isFragmentModel()) ? ICoreConstants.FRAGMENT_FILENAME_DESCRIPTOR
+						: ICoreConstants.PLUGIN_FILENAME_DESCRIPTOR;
+				ZipEntry entry = jfile.getEntry(fileName);
+				if (entry != null) {
+					try (InputStream is = jfile.getInputStream(entry)) {
+						if (is != null) {
+							return new Contribution(contributor, input.getPath(), is.readAllBytes());
 						}
 					}
 				}
 			}
 		} catch (IOException ignored) {
 		}
+		return null;
 	}
 
 	private void removeBundle(IExtensionRegistry registry, IPluginModelBase base) {
@@ -322,7 +358,7 @@ public class PDERegistryStrategy extends RegistryStrategy {
 		fPDERegistry.getRegistry();
 	}
 
-	// Same timestamp calculations as PDEState.computeTimestamp(URL[] urls, long timestamp)
+	// Same timestamp calculations as PDEState.computeTimestamp(URL[] urls, long timestamp), plus the bundle ids
 	@Override
 	public long getContributionsTimestamp() {
 		IPluginModelBase[] bases = fPDERegistry.getModels();
@@ -352,6 +388,11 @@ public class PDERegistryStrategy extends RegistryStrategy {
 					}
 				}
 				timeStamp ^= location.getAbsolutePath().hashCode();
+				// contributors are identified by bundle id, a cache is only valid for the same ids
+				BundleDescription desc = base.getBundleDescription();
+				if (desc != null) {
+					timeStamp ^= Long.rotateLeft(desc.getBundleId() * 31 + location.getAbsolutePath().hashCode(), 32);
+				}
 			}
 		}
 		return timeStamp;
@@ -14,13 +14,18 @@
 package org.eclipse.pde.internal.core.bnd;
 
 import java.io.File;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Predicate;
+import java.util.jar.JarFile;
 
 import org.eclipse.core.resources.IFile;
 import org.eclipse.core.resources.IProject;
@@ -46,6 +51,7 @@ import aQute.bnd.build.Project;
 import aQute.bnd.build.ProjectBuilder;
 import aQute.bnd.osgi.Builder;
 import aQute.bnd.osgi.Jar;
+import aQute.bnd.osgi.Resource;
 
 public class BndBuilder extends IncrementalProjectBuilder {
 
@@ -174,10 +180,12 @@ public class BndBuilder extends IncrementalProjectBuilder {
 					File outputFile = subBuilder.getOutputFile(null);
 					if (outputFile != null) {
 						Jar subJar = subBuilder.build();
-						subJar.write(outputFile);
-						for (IFile file : project.getWorkspace().getRoot()
-								.findFilesForLocationURI(outputFile.toURI())) {
-							file.refreshLocal(IResource.DEPTH_ZERO, monitor);
+						if (!isUpToDate(outputFile, subJar)) {
+							subJar.write(outputFile);
+							for (IFile file : project.getWorkspace().getRoot()
+									.findFilesForLocationURI(outputFile.toURI())) {
+								file.refreshLocal(IResource.DEPTH_ZERO, monitor);
+							}
 						}
 						File propertiesFile = subBuilder.getPropertiesFile();
 						if (propertiesFile != null) {
@@ -197,6 +205,49 @@ public class BndBuilder extends IncrementalProjectBuilder {
 		}
 	}
 
+	/**
+	 * Checks if the given output file already contains the same resources as
+	 * the jar, so rewriting it (and triggering the builds of everyone consuming
+	 * it) can be avoided.
+	 */
+	private static boolean isUpToDate(File outputFile, Jar jar) {
+		if (!outputFile.isFile()) {
+			return false;
+		}
+		try (Jar current = new Jar(outputFile)) {
+			if (!ProjectJar.isSameManifest(current.getManifest(), jar.getManifest())) {
+				return false;
+			}
+			Map<String, Resource> currentResources = current.getResources();
+			Map<String, Resource> resources = jar.getResources();
+			if (!withoutManifest(currentResources.keySet()).equals(withoutManifest(resources.keySet()))) {
+				return false;
+			}
+			for (Map.Entry<String, Resource> entry : resources.entrySet()) {
+				if (JarFile.MANIFEST_NAME.equals(entry.getKey())) {
+					continue;
+				}
+				Resource resource = currentResources.get(entry.getKey());
+				try (InputStream stream1 = resource.openInputStream();
+						InputStream stream2 = entry.getValue().openInputStream()) {
+					if (!Arrays.equals(stream1.readAllBytes(), stream2.readAllBytes())) {
+						return false;
+					}
+				}
+			}
+			return true;
+		} catch (Exception e) {
+			// just write it again...
+			return false;
+		}
+	}
+
+	private static Set<String> withoutManifest(Set<String> paths) {
+		Set<String> result = new HashSet<>(paths);
+		result.remove(JarFile.MANIFEST_NAME);
+		return result;
+	}
+
 	private static boolean requireBuild(IProject project) {
 		// If there is no manifest file yet, always generate one
 		return !PDEProject.getManifest(project).exists();
@@ -210,10 +261,10 @@ public class BndBuilder extends IncrementalProjectBuilder {
 				@Override
 				public boolean visit(IResourceDelta delta) throws CoreException {
 					IResource resource = delta.getResource();
-					if (resource instanceof IFile file) {
+					if (resource instanceof IFile file && isContentChange(delta)) {
 						String name = file.getName();
-						if (name.endsWith(CLASS_EXTENSION) || file.getName().equals(BndProject.INSTRUCTIONS_FILE)
-								|| name.equals(ICoreConstants.MANIFEST_FILENAME)) {
+						if (name.endsWith(CLASS_EXTENSION) || name.equals(BndProject.INSTRUCTIONS_FILE)
+								|| (name.equals(ICoreConstants.MANIFEST_FILENAME) && !isGenerated(delta, file))) {
 							result.set(true);
 							return false;
 						}
@@ -225,4 +276,26 @@ public class BndBuilder extends IncrementalProjectBuilder {
 		}
 		return true;
 	}
+
+	private static boolean isContentChange(IResourceDelta delta) {
+		int kind = delta.getKind();
+		// marker or property changes (e.g. after validating the content) do
+		// not require a build
+		return kind == IResourceDelta.ADDED || kind == IResourceDelta.REMOVED || (kind == IResourceDelta.CHANGED
+				&& (delta.getFlags() & (IResourceDelta.CONTENT | IResourceDelta.REPLACED)) != 0);
+	}
+
+	private static boolean isGenerated(IResourceDelta delta, IFile file) {
+		// the manifest written by the last build must not trigger another one,
+		// only if it was removed we need to generate it again
+		if (delta.getKind() == IResourceDelta.REMOVED) {
+			return false;
+		}
+		try {
+			return file.isDerived(IResource.CHECK_ANCESTORS)
+					|| file.getPersistentProperty(ProjectJar.GENERATED_PROPERTY) != null;
+		} catch (CoreException e) {
+			return false;
+		}
+	}
 }
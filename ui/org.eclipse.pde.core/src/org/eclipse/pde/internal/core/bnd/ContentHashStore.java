@@ -0,0 +1,153 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.internal.core.bnd;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Properties;
+
+import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.jobs.Job;
+import org.eclipse.pde.internal.core.PDECore;
+
+/**
+ * Persists the SHA-256 content hashes of target bundles across sessions. An
+ * entry is keyed by the absolute path of the bundle and is only valid as long
+ * as the size and modification time of the file did not change. Entries of
+ * bundles that no longer exist are dropped when the store is saved.
+ */
+public final class ContentHashStore {
+
+	private static final String FILE_NAME = ".bnd-content-hashes.properties"; //$NON-NLS-1$
+	private static final long SAVE_DELAY = 2000;
+
+	private static ContentHashStore persistentStore;
+
+	private final Path file;
+	private final Properties entries = new Properties();
+	private final Job saveJob;
+	private volatile boolean dirty;
+
+	private ContentHashStore(Path file) {
+		this.file = file;
+		if (file != null && Files.isRegularFile(file)) {
+			try (InputStream stream = Files.newInputStream(file)) {
+				entries.load(stream);
+			} catch (IOException | IllegalArgumentException e) {
+				// a corrupt store only means we need to hash again
+				entries.clear();
+			}
+		}
+		saveJob = Job.create("Save bundle content hashes", monitor -> { //$NON-NLS-1$
+			save();
+			return Status.OK_STATUS;
+		});
+		saveJob.setSystem(true);
+	}
+
+	/**
+	 * Creates a store backed by a file in the PDE state location, or a
+	 * transient one if PDE is not running.
+	 */
+	static ContentHashStore create() {
+		PDECore pde = PDECore.getDefault();
+		if (pde == null) {
+			return new ContentHashStore(null);
+		}
+		ContentHashStore store = new ContentHashStore(pde.getStateLocation().append(FILE_NAME).toPath());
+		synchronized (ContentHashStore.class) {
+			persistentStore = store;
+		}
+		return store;
+	}
+
+	/**
+	 * Writes the hashes still waiting for the delayed save, so that they are
+	 * not lost when PDE stops.
+	 */
+	public static void shutdown() {
+		ContentHashStore store;
+		synchronized (ContentHashStore.class) {
+			store = persistentStore;
+			persistentStore = null;
+		}
+		if (store == null) {
+			return;
+		}
+		store.saveJob.cancel();
+		try {
+			store.saveJob.join();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+		if (store.dirty) {
+			store.save();
+		}
+	}
+
+	/**
+	 * @return the stored hash of the given file, or <code>null</code> if there
+	 *         is none or the file changed since it was stored
+	 */
+	String get(File bundle, long length, long modified) {
+		String value = entries.getProperty(bundle.getAbsolutePath());
+		if (value == null) {
+			return null;
+		}
+		String[] parts = value.split(",", 3); //$NON-NLS-1$
+		if (parts.length == 3 && parts[0].equals(Long.toString(length)) && parts[1].equals(Long.toString(modified))) {
+			return parts[2];
+		}
+		return null;
+	}
+
+	void put(File bundle, long length, long modified, String sha) {
+		entries.setProperty(bundle.getAbsolutePath(), length + "," + modified + "," + sha); //$NON-NLS-1$ //$NON-NLS-2$
+		if (file != null) {
+			dirty = true;
+			// coalesce the many updates of a single resolve into one write
+			saveJob.schedule(SAVE_DELAY);
+		}
+	}
+
+	private synchronized void save() {
+		dirty = false;
+		Properties snapshot = new Properties();
+		for (String bundle : entries.stringPropertyNames()) {
+			if (new File(bundle).exists()) {
+				String value = entries.getProperty(bundle);
+				if (value != null) {
+					snapshot.setProperty(bundle, value);
+				}
+			} else {
+				entries.remove(bundle);
+			}
+		}
+		try {
+			Path tmp = file.resolveSibling(file.getFileName() + ".tmp"); //$NON-NLS-1$
+			try (OutputStream stream = Files.newOutputStream(tmp)) {
+				snapshot.store(stream, null);
+			}
+			Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING);
+		} catch (IOException e) {
+			PDECore.log(Status.warning("Can't save bundle content hashes", e)); //$NON-NLS-1$
+		}
+	}
+
+}
@@ -14,9 +14,11 @@
 package org.eclipse.pde.internal.core.bnd;
 
 import java.io.InputStream;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.function.Predicate;
+import java.util.jar.Attributes;
 import java.util.jar.JarFile;
 import java.util.jar.Manifest;
 
@@ -37,6 +39,7 @@ import org.eclipse.pde.internal.core.PDECore;
 import org.eclipse.pde.internal.core.natures.PluginProject;
 import org.eclipse.pde.internal.core.project.PDEProject;
 
+import aQute.bnd.osgi.Constants;
 import aQute.bnd.osgi.Jar;
 import aQute.bnd.osgi.ManifestResource;
 import aQute.bnd.osgi.Resource;
@@ -99,6 +102,10 @@ public class ProjectJar extends Jar {
 		if (!file.getFullPath().equals(manifestFile.getFullPath())) {
 			// bundle root is currently not where we store it...
 			if (manifestFile.exists()) {
+				if (hasContent(manifestFile, JarFile.MANIFEST_NAME, resource)) {
+					// don't touch the file, this would trigger another build
+					return;
+				}
 				try (InputStream stream = resource.openInputStream()) {
 					manifestFile.setContents(stream, true, false, null);
 				} catch (RuntimeException e) {
@@ -137,7 +144,7 @@ public class ProjectJar extends Jar {
 		IFile file = outputFolder.getFile(IPath.fromOSString(path));
 		try {
 			if (file.exists()) {
-				if (overwrite) {
+				if (overwrite && !hasContent(file, path, resource)) {
 					try (InputStream stream = resource.openInputStream()) {
 						file.setContents(stream, true, false, null);
 					}
@@ -158,6 +165,40 @@ public class ProjectJar extends Jar {
 		return super.putResource(path, new FileResource(file), overwrite);
 	}
 
+	/**
+	 * @return <code>true</code> if the file already has the content of the
+	 *         given resource, manifests are compared with
+	 *         {@link #isSameManifest(Manifest, Manifest)}
+	 */
+	private static boolean hasContent(IFile file, String path, Resource resource) {
+		try (InputStream current = file.getContents(); InputStream stream = resource.openInputStream()) {
+			if (JarFile.MANIFEST_NAME.equals(path)) {
+				return isSameManifest(new Manifest(current), new Manifest(stream));
+			}
+			return Arrays.equals(current.readAllBytes(), stream.readAllBytes());
+		} catch (Exception e) {
+			// simply write it again
+			return false;
+		}
+	}
+
+	/**
+	 * Compares two manifests ignoring the <code>Bnd-LastModified</code> header
+	 * that changes on every build even if nothing else changed.
+	 */
+	static boolean isSameManifest(Manifest manifest1, Manifest manifest2) {
+		if (manifest1 == null || manifest2 == null) {
+			return manifest1 == manifest2;
+		}
+		return withoutTimestamp(manifest1).equals(withoutTimestamp(manifest2));
+	}
+
+	private static Manifest withoutTimestamp(Manifest manifest) {
+		Manifest copy = new Manifest(manifest);
+		copy.getMainAttributes().remove(new Attributes.Name(Constants.BND_LASTMODIFIED));
+		return copy;
+	}
+
 	private void mkdirs(IResource resource) throws CoreException {
 		if (resource == null) {
 			return;
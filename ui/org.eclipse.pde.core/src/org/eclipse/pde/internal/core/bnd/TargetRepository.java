@@ -18,6 +18,7 @@ import java.io.FileInputStream;
 import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
 import java.net.MalformedURLException;
 import java.nio.file.Files;
 import java.nio.file.Path;
@@ -66,6 +67,7 @@ public class TargetRepository extends BaseRepository implements RepositoryPlugin
 
 	private static final TargetRepository instance = new TargetRepository();
 	private static final Map<File, ContentCapabilityCache> contentCapabilityMap = new ConcurrentHashMap<>();
+	private static final ContentHashStore hashStore = ContentHashStore.create();
 
 	private TargetRepository() {
 	}
@@ -171,6 +173,12 @@ public class TargetRepository extends BaseRepository implements RepositoryPlugin
 
 	public List<Capability> findProvider(Requirement requirement) {
 		String namespace = requirement.getNamespace();
+		if (ContentNamespace.CONTENT_NAMESPACE.equals(namespace)) {
+			// compute outdated content hashes in parallel instead of one after
+			// the other while collecting the capabilities below
+			bundles(null).parallel().forEach(bundle -> new BundleDescriptionRepositoryResource(this, bundle)
+					.getCapabilities(ContentNamespace.CONTENT_NAMESPACE));
+		}
 		return bundles(null).map(r -> new BundleDescriptionRepositoryResource(this, r))
 				.flatMap(resource -> ResourceUtils.capabilityStream(resource, namespace))
 				.filter(ResourceUtils.matcher(requirement, ResourceUtils::filterPredicate))
@@ -356,22 +364,8 @@ public class TargetRepository extends BaseRepository implements RepositoryPlugin
 		public synchronized Stream<Capability> capability() {
 			if (isOutDated()) {
 				CapReqBuilder content = new CapReqBuilder(resource, ContentNamespace.CONTENT_NAMESPACE);
-				String sha;
-				try {
-					MessageDigest digest = MessageDigest.getInstance("SHA-256"); //$NON-NLS-1$
-					if (file.isDirectory()) {
-						// directories can not really have a SHA-256 ...
-						digest.update(file.getAbsolutePath().getBytes());
-					} else {
-						try (DigestInputStream stream = new DigestInputStream(new FileInputStream(file), digest)) {
-							stream.readAllBytes();
-						} catch (IOException e) {
-							return Stream.empty();
-						}
-					}
-					byte[] bytes = digest.digest();
-					sha = HexFormat.of().formatHex(bytes);
-				} catch (NoSuchAlgorithmException e) {
+				String sha = computeSha();
+				if (sha == null) {
 					return Stream.empty();
 				}
 				content.addAttribute(ContentNamespace.CONTENT_NAMESPACE, sha);
@@ -388,6 +382,31 @@ public class TargetRepository extends BaseRepository implements RepositoryPlugin
 			return Stream.of(capability);
 		}
 
+		private String computeSha() {
+			try {
+				MessageDigest digest = MessageDigest.getInstance("SHA-256"); //$NON-NLS-1$
+				if (file.isDirectory()) {
+					// directories can not really have a SHA-256 ...
+					digest.update(file.getAbsolutePath().getBytes());
+					return HexFormat.of().formatHex(digest.digest());
+				}
+				String stored = hashStore.get(file, lastLength, lastModified);
+				if (stored != null) {
+					return stored;
+				}
+				try (DigestInputStream stream = new DigestInputStream(new FileInputStream(file), digest)) {
+					stream.transferTo(OutputStream.nullOutputStream());
+				} catch (IOException e) {
+					return null;
+				}
+				String sha = HexFormat.of().formatHex(digest.digest());
+				hashStore.put(file, lastLength, lastModified, sha);
+				return sha;
+			} catch (NoSuchAlgorithmException e) {
+				return null;
+			}
+		}
+
 		private boolean isOutDated() {
 			if (file.isFile()) {
 				long length = file.length();
@@ -24,7 +24,6 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Deque;
 import java.util.Enumeration;
-import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Hashtable;
 import java.util.List;
@@ -62,7 +61,6 @@ import org.eclipse.osgi.service.resolver.ExportPackageDescription;
 import org.eclipse.osgi.service.resolver.HostSpecification;
 import org.eclipse.osgi.service.resolver.ImportPackageSpecification;
 import org.eclipse.osgi.service.resolver.ResolverError;
-import org.eclipse.osgi.service.resolver.State;
 import org.eclipse.osgi.service.resolver.StateObjectFactory;
 import org.eclipse.osgi.service.resolver.VersionConstraint;
 import org.eclipse.osgi.util.ManifestElement;
@@ -1189,7 +1187,8 @@ public class BundleErrorReporter extends JarManifestErrorReporter {
 			}
 		}
 
-		HashMap<String, ExportPackageDescription> exported = getAvailableExportedPackages(desc.getContainingState());
+		// the index of all exports is shared and only needed for unresolved imports
+		ExportedPackageIndex exported = hasUnresolved ? ExportedPackageIndex.of(desc.getContainingState()) : null;
 
 		ImportPackageSpecification[] imports = desc.getImportPackages();
 		if (desc.hasDynamicImports()) {
@@ -1227,7 +1226,7 @@ public class BundleErrorReporter extends JarManifestErrorReporter {
 				boolean optional = isOptional(element);
 				int severity = getRequireBundleSeverity(element, optional);
 
-				ExportPackageDescription export = exported.get(name);
+				ExportPackageDescription export = exported.getExport(name);
 				if (export != null) {
 					if (export.getSupplier().isResolved()) {
 						Version version = export.getVersion();
@@ -1258,26 +1257,6 @@ public class BundleErrorReporter extends JarManifestErrorReporter {
 		}
 	}
 
-	private HashMap<String, ExportPackageDescription> getAvailableExportedPackages(State state) {
-		BundleDescription[] bundles = state.getBundles();
-
-		HashMap<String, ExportPackageDescription> exported = new HashMap<>();
-		for (BundleDescription bundle : bundles) {
-			ExportPackageDescription[] exports = bundle.getExportPackages();
-			for (ExportPackageDescription export : exports) {
-				String name = export.getName();
-				if (exported.containsKey(name)) {
-					if (export.getSupplier().isResolved()) {
-						exported.put(name, export);
-					}
-				} else {
-					exported.put(name, export);
-				}
-			}
-		}
-		return exported;
-	}
-
 	protected void validateExportPackage(IProgressMonitor monitor) {
 		IHeader header = getHeader(Constants.EXPORT_PACKAGE);
 		if (header == null) {
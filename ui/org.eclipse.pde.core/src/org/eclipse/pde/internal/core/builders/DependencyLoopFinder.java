@@ -1,5 +1,5 @@
 /*******************************************************************************
- *  Copyright (c) 2000, 2012 IBM Corporation and others.
+ *  Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  *  This program and the accompanying materials
  *  are made available under the terms of the Eclipse Public License 2.0
@@ -13,7 +13,15 @@
  *******************************************************************************/
 package org.eclipse.pde.internal.core.builders;
 
-import java.util.Vector;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import org.eclipse.osgi.util.NLS;
 import org.eclipse.pde.core.plugin.IPlugin;
@@ -25,6 +33,8 @@ import org.eclipse.pde.internal.core.PDECoreMessages;
 
 public class DependencyLoopFinder {
 
+	private static final int UNKNOWN = -1;
+
 	public static DependencyLoop[] findLoops(IPlugin root) {
 		return findLoops(root, null);
 	}
@@ -33,95 +43,139 @@ public class DependencyLoopFinder {
 		return findLoops(root, candidates, false);
 	}
 
+	/**
+	 * Finds the dependency loops the root is part of. For each direct
+	 * dependency of the root (its imports unless <code>onlyCandidates</code>
+	 * is set and the given candidates) that leads back to the root, one loop
+	 * along a shortest path back to the root is reported. The time needed is
+	 * linear in the size of the dependency graph reachable from the root.
+	 * <p>
+	 * Not every simple cycle through the root is reported: cycles that start
+	 * with the same direct dependency are reported as a single loop.
+	 * </p>
+	 *
+	 * @param root
+	 *            the plug-in to find the loops for
+	 * @param candidates
+	 *            additional dependencies of the root, e.g. ones that are about
+	 *            to be added, or <code>null</code>
+	 * @param onlyCandidates
+	 *            whether to only consider the candidates as direct
+	 *            dependencies of the root and ignore its imports
+	 * @return one loop per direct dependency that leads back to the root,
+	 *         each starting with the root followed by that dependency
+	 */
 	public static DependencyLoop[] findLoops(IPlugin root, IPlugin[] candidates, boolean onlyCandidates) {
-		Vector<DependencyLoop> loops = new Vector<>();
-
-		Vector<IPlugin> path = new Vector<>();
-		findLoops(loops, path, root, candidates, onlyCandidates, new Vector<>());
-		return loops.toArray(new DependencyLoop[loops.size()]);
-	}
-
-	private static void findLoops(Vector<DependencyLoop> loops, Vector<IPlugin> path, IPlugin subroot, IPlugin[] candidates, boolean onlyCandidates, Vector<String> exploredPlugins) {
-		if (!path.isEmpty()) {
-			// test the path so far
-			// is the subroot the same as root - if yes, that's it
-
-			IPlugin root = path.elementAt(0);
-			if (isEquivalent(root, subroot)) {
-				// our loop!!
-				DependencyLoop loop = new DependencyLoop();
-				loop.setMembers(path.toArray(new IPlugin[path.size()]));
-				int no = loops.size() + 1;
-				loop.setName(NLS.bind(PDECoreMessages.Builders_DependencyLoopFinder_loopName, ("" + no))); //$NON-NLS-1$
-				loops.add(loop);
-				return;
-			}
-			// is the subroot the same as any other node?
-			// if yes, abort - local loop that is not ours
-			for (int i = 1; i < path.size(); i++) {
-				IPlugin node = path.elementAt(i);
-				if (isEquivalent(subroot, node)) {
-					// local loop
-					return;
+		Graph graph = new Graph();
+		int rootIndex = graph.add(root);
+		graph.unexplored.clear();
+		Set<Integer> dependencies = new LinkedHashSet<>();
+		if (!onlyCandidates) {
+			for (IPluginImport iimport : root.getImports()) {
+				int index = graph.add(iimport.getId());
+				if (index != UNKNOWN) {
+					dependencies.add(index);
 				}
 			}
 		}
-		@SuppressWarnings("unchecked")
-		Vector<IPlugin> newPath = !path.isEmpty() ? ((Vector<IPlugin>) path.clone()) : path;
-		newPath.add(subroot);
-
-		if (!onlyCandidates) {
-			IPluginImport[] iimports = subroot.getImports();
-			for (IPluginImport iimport : iimports) {
-				String id = iimport.getId();
-				//Be paranoid
-				if (id == null) {
-					continue;
-				}
-				if (!exploredPlugins.contains(id)) {
-					// is plugin in list of non loop yielding plugins
-					//Commenting linear lookup - was very slow
-					//when called from here. We will use
-					//model manager instead because it
-					//has a hash table lookup that is much faster.
-					//IPlugin child = PDECore.getDefault().findPlugin(id);
-					IPlugin child = findPlugin(id);
-					if (child != null) {
-						// number of loops before traversing plugin
-						int oldLoopSize = loops.size();
-
-						findLoops(loops, newPath, child, null, false, exploredPlugins);
-
-						// number of loops after traversing plugin
-						int newLoopsSize = loops.size();
-
-						if (oldLoopSize == newLoopsSize) {// no change in number of loops
-							// no loops from going to this node, skip next time
-							exploredPlugins.add(id);
-						}
-					}
+		if (candidates != null) {
+			for (IPlugin candidate : candidates) {
+				dependencies.add(graph.add(candidate));
+			}
+		}
+		for (int dependency : dependencies) {
+			graph.importedBy.get(dependency).add(rootIndex);
+		}
+		graph.explore();
+
+		// walk the imports backwards starting at the root, this finds all
+		// plug-ins that are in a loop with the root together with the next
+		// plug-in on a shortest path back to the root
+		int[] next = new int[graph.plugins.size()];
+		Arrays.fill(next, UNKNOWN);
+		next[rootIndex] = rootIndex;
+		Deque<Integer> queue = new ArrayDeque<>();
+		queue.add(rootIndex);
+		while (!queue.isEmpty()) {
+			int index = queue.poll();
+			for (int importer : graph.importedBy.get(index)) {
+				if (next[importer] == UNKNOWN) {
+					next[importer] = index;
+					queue.add(importer);
 				}
-
 			}
+		}
 
+		List<DependencyLoop> loops = new ArrayList<>();
+		for (int dependency : dependencies) {
+			if (next[dependency] == UNKNOWN) {
+				continue;
+			}
+			List<IPlugin> members = new ArrayList<>();
+			members.add(root);
+			for (int index = dependency; index != rootIndex; index = next[index]) {
+				members.add(graph.plugins.get(index));
+			}
+			DependencyLoop loop = new DependencyLoop();
+			loop.setMembers(members.toArray(new IPlugin[members.size()]));
+			int no = loops.size() + 1;
+			loop.setName(NLS.bind(PDECoreMessages.Builders_DependencyLoopFinder_loopName, ("" + no))); //$NON-NLS-1$
+			loops.add(loop);
 		}
-		if (candidates != null) {
-			for (IPlugin candidate : candidates) {
-				// number of loops before traversing plugin
-				int oldLoopSize = loops.size();
+		return loops.toArray(new DependencyLoop[loops.size()]);
+	}
 
-				findLoops(loops, newPath, candidate, null, false, exploredPlugins);
+	/**
+	 * The plug-ins reachable from the root, identified by their id and indexed
+	 * in the order they were found, with the reverse import relation.
+	 */
+	private static final class Graph {
+
+		final Map<String, Integer> indices = new HashMap<>();
+		final List<IPlugin> plugins = new ArrayList<>();
+		final List<List<Integer>> importedBy = new ArrayList<>();
+		final Deque<Integer> unexplored = new ArrayDeque<>();
+
+		int add(IPlugin plugin) {
+			Integer index = indices.get(plugin.getId());
+			if (index == null || index == UNKNOWN) {
+				index = plugins.size();
+				indices.put(plugin.getId(), index);
+				plugins.add(plugin);
+				importedBy.add(new ArrayList<>());
+				unexplored.add(index);
+			}
+			return index;
+		}
 
-				// number of loops after traversing plugin
-				int newLoopsSize = loops.size();
+		int add(String id) {
+			//Be paranoid
+			if (id == null) {
+				return UNKNOWN;
+			}
+			Integer index = indices.get(id);
+			if (index != null) {
+				return index;
+			}
+			IPlugin plugin = findPlugin(id);
+			if (plugin == null) {
+				indices.put(id, UNKNOWN);
+				return UNKNOWN;
+			}
+			return add(plugin);
+		}
 
-				if (oldLoopSize == newLoopsSize) { // no change in number of loops
-					// no loops from going to this node, skip next time
-					exploredPlugins.add(candidate.getId());
+		void explore() {
+			while (!unexplored.isEmpty()) {
+				int index = unexplored.poll();
+				for (IPluginImport iimport : plugins.get(index).getImports()) {
+					int child = add(iimport.getId());
+					if (child != UNKNOWN) {
+						importedBy.get(child).add(index);
+					}
 				}
 			}
 		}
-
 	}
 
 	private static IPlugin findPlugin(String id) {
@@ -131,8 +185,4 @@ public class DependencyLoopFinder {
 		}
 		return (IPlugin) childModel.getPluginBase();
 	}
-
-	private static boolean isEquivalent(IPlugin left, IPlugin right) {
-		return left.getId().equals(right.getId());
-	}
 }
@@ -0,0 +1,98 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.internal.core.builders;
+
+import java.lang.ref.WeakReference;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.eclipse.osgi.service.resolver.BundleDescription;
+import org.eclipse.osgi.service.resolver.ExportPackageDescription;
+import org.eclipse.osgi.service.resolver.State;
+
+/**
+ * Immutable index of the packages exported by the bundles of a {@link State},
+ * shared by all reporters validating manifests against the same state. Only
+ * the index of the last state is kept, it is rebuilt once the state or its
+ * timestamp changes. The index only refers to the state weakly and stores the
+ * ids of the exporting bundles instead of their descriptions, so it does not
+ * keep a state alive that is no longer used.
+ */
+final class ExportedPackageIndex {
+
+	private static ExportedPackageIndex fLast;
+
+	private final WeakReference<State> fState;
+	private final long fTimeStamp;
+	// per package, pairs of exporting bundle id and index of the export
+	private final Map<String, long[]> fExports;
+
+	private ExportedPackageIndex(State state) {
+		fState = new WeakReference<>(state);
+		fTimeStamp = state.getTimeStamp();
+		Map<String, long[]> exports = new HashMap<>();
+		for (BundleDescription bundle : state.getBundles()) {
+			ExportPackageDescription[] packages = bundle.getExportPackages();
+			for (int i = 0; i < packages.length; i++) {
+				long[] current = exports.get(packages[i].getName());
+				long[] updated = current == null ? new long[2] : Arrays.copyOf(current, current.length + 2);
+				updated[updated.length - 2] = bundle.getBundleId();
+				updated[updated.length - 1] = i;
+				exports.put(packages[i].getName(), updated);
+			}
+		}
+		fExports = Map.copyOf(exports);
+	}
+
+	static synchronized ExportedPackageIndex of(State state) {
+		ExportedPackageIndex index = fLast;
+		if (index == null || index.fState.get() != state || index.fTimeStamp != state.getTimeStamp()) {
+			index = new ExportedPackageIndex(state);
+			fLast = index;
+		}
+		return index;
+	}
+
+	/**
+	 * Returns the export of the given package, the last export of a resolved
+	 * bundle is preferred over the first export of any bundle. The resolution
+	 * is checked on each call, so it is always up to date with the state.
+	 *
+	 * @param packageName
+	 *            the name of the package
+	 * @return the export or <code>null</code> if no bundle exports the package
+	 */
+	ExportPackageDescription getExport(String packageName) {
+		long[] exports = fExports.get(packageName);
+		State state = fState.get();
+		if (exports == null || state == null) {
+			return null;
+		}
+		ExportPackageDescription result = getExport(state, exports, 0);
+		for (int i = 2; i < exports.length; i += 2) {
+			ExportPackageDescription export = getExport(state, exports, i);
+			if (export != null && export.getSupplier().isResolved()) {
+				result = export;
+			}
+		}
+		return result;
+	}
+
+	private static ExportPackageDescription getExport(State state, long[] exports, int i) {
+		BundleDescription bundle = state.getBundle(exports[i]);
+		return bundle == null ? null : bundle.getExportPackages()[(int) exports[i + 1]];
+	}
+
+}
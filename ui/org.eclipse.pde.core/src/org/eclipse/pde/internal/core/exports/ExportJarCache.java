@@ -0,0 +1,262 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.internal.core.exports;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.core.resources.IContainer;
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.JavaCore;
+import org.eclipse.osgi.service.resolver.BundleDescription;
+import org.eclipse.osgi.service.resolver.ExportPackageDescription;
+import org.eclipse.pde.core.plugin.IPluginModelBase;
+import org.eclipse.pde.core.plugin.PluginRegistry;
+import org.eclipse.pde.internal.core.PDECore;
+import org.eclipse.pde.internal.core.util.CoreUtility;
+
+/**
+ * Keeps the jars produced by previous plug-in exports so that workspace
+ * plug-ins whose content did not change can be reused instead of being
+ * recompiled and repackaged.
+ * <p>
+ * Entries are keyed by a SHA-256 hash over the project content, the compiler
+ * settings, the export qualifier and the resolved dependencies of the bundle.
+ * Dependencies from the workspace contribute their own key (or their content
+ * if they can not be cached themselves), so a change in a required project
+ * invalidates the jars of the bundles compiled against it. Only the most
+ * recent jar of each bundle is kept, stored as
+ * <code>&lt;id&gt;/&lt;key&gt;/&lt;exported jar name&gt;</code> below the
+ * state location.
+ * </p>
+ */
+public class ExportJarCache {
+
+	private static final String CACHE_FOLDER = "exportCache"; //$NON-NLS-1$
+	private static final String PLUGINS_FOLDER = "plugins"; //$NON-NLS-1$
+	private static final String JAR_EXTENSION = ".jar"; //$NON-NLS-1$
+	private static final String QUALIFIER = "qualifier"; //$NON-NLS-1$
+
+	private final Path fCacheLocation;
+	private final FeatureExportInfo fInfo;
+	private final Map<BundleDescription, String> fKeys = new HashMap<>();
+	private final Map<IProject, String> fContentHashes = new HashMap<>();
+	private final Set<BundleDescription> fComputing = new HashSet<>();
+
+	public ExportJarCache(FeatureExportInfo info) {
+		fInfo = info;
+		fCacheLocation = PDECore.getDefault().getStateLocation().append(CACHE_FOLDER).toPath();
+	}
+
+	/**
+	 * Returns whether the export described by the given info produces plain
+	 * jars in a directory that can be reused by a later export.
+	 */
+	public static boolean isApplicable(FeatureExportInfo info) {
+		return info.toDirectory && info.useJarFormat && !info.exportMetadata && !info.exportSource
+				&& info.signingInfo == null && info.jnlpInfo == null && info.targets == null;
+	}
+
+	/**
+	 * Computes the cache key of a workspace plug-in, or returns
+	 * <code>null</code> if the plug-in can not be cached.
+	 */
+	public String computeKey(IPluginModelBase model) {
+		IResource resource = model.getUnderlyingResource();
+		BundleDescription bundle = model.getBundleDescription();
+		if (resource == null || bundle == null || !bundle.isResolved()) {
+			return null;
+		}
+		if (fKeys.containsKey(bundle)) {
+			return fKeys.get(bundle);
+		}
+		String version = bundle.getVersion().toString();
+		if (fInfo.qualifier == null && version.endsWith(QUALIFIER)) {
+			// the date qualifier changes with every export
+			return null;
+		}
+		fComputing.add(bundle);
+		String key = null;
+		try {
+			MessageDigest digest = MessageDigest.getInstance("SHA-256"); //$NON-NLS-1$
+			update(digest, bundle.getSymbolicName());
+			update(digest, version);
+			update(digest, fInfo.qualifier);
+			update(digest, Boolean.toString(fInfo.useWorkspaceCompiledClasses));
+			update(digest, Boolean.toString(fInfo.allowBinaryCycles));
+			IProject project = resource.getProject();
+			IJavaProject javaProject = JavaCore.create(project);
+			if (javaProject.exists()) {
+				update(digest, javaProject.getOption(JavaCore.COMPILER_COMPLIANCE, true));
+				update(digest, javaProject.getOption(JavaCore.COMPILER_SOURCE, true));
+				update(digest, javaProject.getOption(JavaCore.COMPILER_CODEGEN_TARGET_PLATFORM, true));
+				update(digest, javaProject.getOption(JavaCore.COMPILER_PB_ENABLE_PREVIEW_FEATURES, true));
+			}
+			for (BundleDescription required : bundle.getResolvedRequires()) {
+				update(digest, required.getSymbolicName() + '_' + required.getVersion());
+				updateDependency(digest, required);
+			}
+			for (ExportPackageDescription imported : bundle.getResolvedImports()) {
+				BundleDescription exporter = imported.getExporter();
+				update(digest, imported.getName() + '@' + exporter.getSymbolicName() + '_' + exporter.getVersion());
+				updateDependency(digest, exporter);
+			}
+			update(digest, getContentHash(project));
+			key = HexFormat.of().formatHex(digest.digest());
+		} catch (NoSuchAlgorithmException | CoreException | IOException e) {
+			PDECore.log(e);
+		} finally {
+			fComputing.remove(bundle);
+		}
+		fKeys.put(bundle, key);
+		return key;
+	}
+
+	/**
+	 * Adds the key of a workspace dependency to the digest. If the dependency
+	 * has no key of its own, e.g. because it is part of a cycle, its content
+	 * is used instead. Dependencies from the target platform are fully
+	 * identified by their name and version.
+	 */
+	private void updateDependency(MessageDigest digest, BundleDescription dependency) throws CoreException, IOException, NoSuchAlgorithmException {
+		IPluginModelBase model = PluginRegistry.findModel(dependency);
+		if (model == null || model.getUnderlyingResource() == null) {
+			return;
+		}
+		String key = fComputing.contains(dependency) ? null : computeKey(model);
+		update(digest, key != null ? key : getContentHash(model.getUnderlyingResource().getProject()));
+	}
+
+	private String getContentHash(IProject project) throws CoreException, IOException, NoSuchAlgorithmException {
+		String hash = fContentHashes.get(project);
+		if (hash == null) {
+			MessageDigest digest = MessageDigest.getInstance("SHA-256"); //$NON-NLS-1$
+			updateContent(digest, project);
+			hash = HexFormat.of().formatHex(digest.digest());
+			fContentHashes.put(project, hash);
+		}
+		return hash;
+	}
+
+	/**
+	 * Returns the name of the jar an export produces for the given bundle,
+	 * with the qualifier of its version replaced like the build does.
+	 */
+	public String getExportedJarName(BundleDescription bundle) {
+		String version = bundle.getVersion().toString();
+		if (fInfo.qualifier != null && version.endsWith(QUALIFIER)) {
+			version = version.substring(0, version.length() - QUALIFIER.length()) + fInfo.qualifier;
+			if (version.endsWith(".")) { //$NON-NLS-1$
+				version = version.substring(0, version.length() - 1);
+			}
+		}
+		return bundle.getSymbolicName() + '_' + version + JAR_EXTENSION;
+	}
+
+	/**
+	 * Returns the cached jar for the given bundle and key, or <code>null</code>
+	 * if there is none.
+	 */
+	public Path get(String symbolicName, String key) throws IOException {
+		Path entry = fCacheLocation.resolve(symbolicName).resolve(key);
+		if (!Files.isDirectory(entry)) {
+			return null;
+		}
+		try (DirectoryStream<Path> stream = Files.newDirectoryStream(entry, '*' + JAR_EXTENSION)) {
+			for (Path jar : stream) {
+				return jar;
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Stores the jar exported for the given bundle under the given key,
+	 * replacing any previously cached jar of that bundle.
+	 */
+	public void put(String symbolicName, String key, Path exportedJar) {
+		try {
+			Path bundleFolder = fCacheLocation.resolve(symbolicName);
+			CoreUtility.deleteContent(bundleFolder.toFile());
+			Path entry = Files.createDirectories(bundleFolder.resolve(key));
+			Files.copy(exportedJar, entry.resolve(exportedJar.getFileName()), StandardCopyOption.REPLACE_EXISTING);
+		} catch (IOException e) {
+			PDECore.log(e);
+		}
+	}
+
+	/**
+	 * Copies a cached jar to the plug-ins folder of the export destination,
+	 * keeping the file name the original export produced.
+	 */
+	public void restore(Path cachedJar) throws IOException {
+		Path plugins = Files.createDirectories(Path.of(fInfo.destinationDirectory, PLUGINS_FOLDER));
+		Files.copy(cachedJar, plugins.resolve(cachedJar.getFileName()), StandardCopyOption.REPLACE_EXISTING);
+	}
+
+	/**
+	 * Returns the jar the export produced for the given bundle, or
+	 * <code>null</code> if it was not exported as a single jar.
+	 */
+	public Path findExportedJar(BundleDescription bundle) {
+		Path jar = Path.of(fInfo.destinationDirectory, PLUGINS_FOLDER, getExportedJarName(bundle));
+		return Files.isRegularFile(jar) ? jar : null;
+	}
+
+	private static void updateContent(MessageDigest digest, IContainer container) throws CoreException, IOException {
+		for (IResource member : container.members()) {
+			if (member.isDerived() || member.isTeamPrivateMember()) {
+				// output folders are derived and do not contribute to the key
+				continue;
+			}
+			if (member instanceof IContainer child) {
+				updateContent(digest, child);
+			} else if (member instanceof IFile file) {
+				update(digest, file.getProjectRelativePath().toPortableString());
+				Path location = file.getLocation() == null ? null : file.getLocation().toPath();
+				if (location != null && Files.isRegularFile(location)) {
+					try (InputStream stream = new DigestInputStream(Files.newInputStream(location), digest)) {
+						stream.transferTo(OutputStream.nullOutputStream());
+					}
+				}
+			}
+		}
+	}
+
+	private static void update(MessageDigest digest, String value) {
+		if (value != null) {
+			digest.update(value.getBytes(StandardCharsets.UTF_8));
+		}
+		digest.update((byte) 0);
+	}
+
+}
@@ -27,7 +27,11 @@ import java.lang.reflect.InvocationTargetException;
 import java.net.MalformedURLException;
 import java.net.URI;
 import java.net.URL;
+import java.nio.file.FileSystem;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Dictionary;
@@ -39,6 +43,7 @@ import java.util.ListIterator;
 import java.util.Map;
 import java.util.Properties;
 import java.util.Set;
+import java.util.stream.Stream;
 
 import javax.xml.parsers.FactoryConfigurationError;
 import javax.xml.parsers.ParserConfigurationException;
@@ -208,50 +213,26 @@ public class FeatureExportOperation extends Job {
 			int i = filename.lastIndexOf('.');
 			filename = filename.substring(0, i) + '.' + configuration[0] + '.' + configuration[1] + '.' + configuration[2] + filename.substring(i);
 		}
-		String archive = fInfo.destinationDirectory + File.separator + filename;
-		File scriptFile = null;
+		Path archive = Path.of(fInfo.destinationDirectory, filename);
+		Path metadata = Path.of(fBuildTempMetadataLocation);
 		SubMonitor subMonitor = SubMonitor.convert(monitor, 1);
-		try {
-			scriptFile = createScriptFile("append.xml"); //$NON-NLS-1$
-
-			@SuppressWarnings("restriction")
-			Document doc = org.eclipse.core.internal.runtime.XmlProcessorFactory.newDocumentWithErrorOnDOCTYPE();
-
-			Element root = doc.createElement("project"); //$NON-NLS-1$
-			root.setAttribute("name", "temp"); //$NON-NLS-1$ //$NON-NLS-2$
-			root.setAttribute("default", "append"); //$NON-NLS-1$ //$NON-NLS-2$
-			root.setAttribute("basedir", "."); //$NON-NLS-1$ //$NON-NLS-2$
-			doc.appendChild(root);
-
-			Element target = doc.createElement("target"); //$NON-NLS-1$
-			target.setAttribute("name", "clean"); //$NON-NLS-1$ //$NON-NLS-2$
-			Element child = doc.createElement("delete"); //$NON-NLS-1$
-			child.setAttribute("dir", fBuildTempMetadataLocation); //$NON-NLS-1$
-			target.appendChild(child);
-			root.appendChild(target);
-
-			target = doc.createElement("target"); //$NON-NLS-1$
-			target.setAttribute("name", "append"); //$NON-NLS-1$ //$NON-NLS-2$
-			child = doc.createElement("zip"); //$NON-NLS-1$
-			child.setAttribute("zipfile", archive); //$NON-NLS-1$
-			child.setAttribute("basedir", fBuildTempMetadataLocation); //$NON-NLS-1$
-			child.setAttribute("update", "true"); //$NON-NLS-1$ //$NON-NLS-2$
-			target.appendChild(child);
-			root.appendChild(target);
-
-			XMLPrintHandler.writeFile(doc, scriptFile);
-
-			String[] targets = new String[] {"append", "clean"}; //$NON-NLS-1$ //$NON-NLS-2$
-			AntRunner runner = new AntRunner();
-			runner.setBuildFileLocation(scriptFile.getAbsolutePath());
-			runner.setExecutionTargets(targets);
-			runner.run(subMonitor.split(1));
-		} catch (FactoryConfigurationError | ParserConfigurationException | CoreException | IOException e) {
+		// update the archive in place rather than running yet another Ant script
+		try (FileSystem zip = FileSystems.newFileSystem(archive, Map.of("create", "true")); //$NON-NLS-1$ //$NON-NLS-2$
+				Stream<Path> files = Files.walk(metadata)) {
+			for (Path file : (Iterable<Path>) files::iterator) {
+				if (Files.isRegularFile(file)) {
+					Path entry = zip.getPath(metadata.relativize(file).toString().replace(File.separatorChar, '/'));
+					if (entry.getParent() != null) {
+						Files.createDirectories(entry.getParent());
+					}
+					Files.copy(file, entry, StandardCopyOption.REPLACE_EXISTING);
+				}
+			}
+		} catch (IOException e) {
 			PDECore.logException(e);
 		} finally {
-			if (scriptFile != null && scriptFile.exists()) {
-				scriptFile.delete();
-			}
+			deleteDir(metadata.toFile());
+			subMonitor.done();
 		}
 	}
 
@@ -885,6 +866,13 @@ public class FeatureExportOperation extends Job {
 		fDevProperties = null;
 		fAntBuildProperties = null;
 
+		if (!hasAntErrors()) {
+			// nothing to zip, so there is no need to spin up Ant just to delete a folder
+			deleteDir(new File(fBuildTempLocation));
+			subMonitor.done();
+			return;
+		}
+
 		File scriptFile = null;
 		try {
 			scriptFile = createScriptFile("zip.xml"); //$NON-NLS-1$
@@ -904,19 +892,16 @@ public class FeatureExportOperation extends Job {
 			target.appendChild(child);
 			root.appendChild(target);
 
-			if (hasAntErrors()) {
-				target = doc.createElement("target"); //$NON-NLS-1$
-				target.setAttribute("name", "zip.logs"); //$NON-NLS-1$ //$NON-NLS-2$
-				child = doc.createElement("zip"); //$NON-NLS-1$
-				child.setAttribute("zipfile", fInfo.destinationDirectory + logName(null)); //$NON-NLS-1$
-				child.setAttribute("basedir", fBuildTempLocation + "/pde.logs"); //$NON-NLS-1$ //$NON-NLS-2$
-				target.appendChild(child);
-				root.appendChild(target);
-			}
+			target = doc.createElement("target"); //$NON-NLS-1$
+			target.setAttribute("name", "zip.logs"); //$NON-NLS-1$ //$NON-NLS-2$
+			child = doc.createElement("zip"); //$NON-NLS-1$
+			child.setAttribute("zipfile", fInfo.destinationDirectory + logName(null)); //$NON-NLS-1$
+			child.setAttribute("basedir", fBuildTempLocation + "/pde.logs"); //$NON-NLS-1$ //$NON-NLS-2$
+			target.appendChild(child);
+			root.appendChild(target);
 			XMLPrintHandler.writeFile(doc, scriptFile);
 
-			String[] targets = hasAntErrors() ? new String[] {"zip.logs", "clean"} //$NON-NLS-1$ //$NON-NLS-2$
-					: new String[] {"clean"}; //$NON-NLS-1$
+			String[] targets = new String[] {"zip.logs", "clean"}; //$NON-NLS-1$ //$NON-NLS-2$
 			AntRunner runner = new AntRunner();
 			runner.setBuildFileLocation(scriptFile.getAbsolutePath());
 			runner.setExecutionTargets(targets);
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2006, 2012 IBM Corporation and others.
+ * Copyright (c) 2006, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -14,11 +14,23 @@
 package org.eclipse.pde.internal.core.exports;
 
 import java.io.File;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.Dictionary;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
 
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
 import org.eclipse.osgi.service.resolver.BundleDescription;
 import org.eclipse.osgi.service.resolver.State;
+import org.eclipse.pde.core.plugin.IPluginModelBase;
 import org.eclipse.pde.core.plugin.TargetPlatform;
+import org.eclipse.pde.internal.core.PDECoreMessages;
 import org.eclipse.pde.internal.core.TargetPlatformHelper;
 
 public class PluginExportOperation extends FeatureBasedExportOperation {
@@ -27,6 +39,86 @@ public class PluginExportOperation extends FeatureBasedExportOperation {
 		super(info, name);
 	}
 
+	@Override
+	protected IStatus run(IProgressMonitor monitor) {
+		if (!ExportJarCache.isApplicable(fInfo)) {
+			return super.run(monitor);
+		}
+		// reuse the jars of unchanged workspace plug-ins from previous exports
+		ExportJarCache cache = new ExportJarCache(fInfo);
+		List<Object> toBuild = new ArrayList<>(fInfo.items.length);
+		List<Path> reused = new ArrayList<>();
+		Map<BundleDescription, String> built = new LinkedHashMap<>();
+		try {
+			for (Object item : fInfo.items) {
+				String key = null;
+				Path cached = null;
+				if (item instanceof IPluginModelBase model && model.getUnderlyingResource() != null) {
+					key = cache.computeKey(model);
+					if (key != null) {
+						cached = cache.get(model.getPluginBase().getId(), key);
+					}
+				}
+				if (cached != null) {
+					reused.add(cached);
+				} else {
+					toBuild.add(item);
+					if (key != null) {
+						built.put(((IPluginModelBase) item).getBundleDescription(), key);
+					}
+				}
+			}
+		} catch (IOException e) {
+			return Status.error(PDECoreMessages.FeatureBasedExportOperation_ProblemDuringExport, e);
+		}
+
+		IStatus status = Status.OK_STATUS;
+		if (!toBuild.isEmpty()) {
+			status = new PluginExportOperation(withItems(fInfo, toBuild.toArray()), getName()).build(monitor);
+			if (!status.isOK() || hasAntErrors()) {
+				return status;
+			}
+		}
+		try {
+			for (Path jar : reused) {
+				cache.restore(jar);
+			}
+			for (Entry<BundleDescription, String> entry : built.entrySet()) {
+				Path exported = cache.findExportedJar(entry.getKey());
+				if (exported != null) {
+					cache.put(entry.getKey().getSymbolicName(), entry.getValue(), exported);
+				}
+			}
+		} catch (IOException e) {
+			return Status.error(PDECoreMessages.FeatureBasedExportOperation_ProblemDuringExport, e);
+		}
+		return status;
+	}
+
+	private IStatus build(IProgressMonitor monitor) {
+		return super.run(monitor);
+	}
+
+	private static FeatureExportInfo withItems(FeatureExportInfo info, Object[] items) {
+		FeatureExportInfo copy = new FeatureExportInfo();
+		copy.toDirectory = info.toDirectory;
+		copy.useJarFormat = info.useJarFormat;
+		copy.exportSource = info.exportSource;
+		copy.exportSourceBundle = info.exportSourceBundle;
+		copy.exportMetadata = info.exportMetadata;
+		copy.allowBinaryCycles = info.allowBinaryCycles;
+		copy.useWorkspaceCompiledClasses = info.useWorkspaceCompiledClasses;
+		copy.destinationDirectory = info.destinationDirectory;
+		copy.zipFileName = info.zipFileName;
+		copy.qualifier = info.qualifier;
+		copy.items = items;
+		copy.signingInfo = info.signingInfo;
+		copy.jnlpInfo = info.jnlpInfo;
+		copy.targets = info.targets;
+		copy.categoryDefinition = info.categoryDefinition;
+		return copy;
+	}
+
 	@Override
 	protected void createPostProcessingFiles() {
 		createPostProcessingFile(new File(fFeatureLocation, PLUGIN_POST_PROCESSING));
@@ -14,7 +14,6 @@
 
 package org.eclipse.pde.internal.core.plugin;
 
-import org.w3c.dom.Element;
 import org.xml.sax.SAXException;
 
 /**
@@ -31,10 +30,9 @@ public class AbbreviatedPluginHandler extends PluginHandler {
 	}
 
 	@Override
-	protected boolean isInterestingExtension(Element element) {
-		String point = element.getAttribute("point"); //$NON-NLS-1$
+	protected boolean isInterestingExtension(String point) {
 		for (String extensionPointId : fExtensionPointIDs) {
-			if (point.equals(extensionPointId)) {
+			if (extensionPointId.equals(point)) {
 				return true;
 			}
 		}
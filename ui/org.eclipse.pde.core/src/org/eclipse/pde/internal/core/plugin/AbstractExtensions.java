@@ -251,6 +251,30 @@ public abstract class AbstractExtensions extends PluginObject implements IExtens
 		return fExtensionPoints;
 	}
 
+	/*
+	 * Adds the extensions and extension points created by a PluginHandler. If any are added, the extension registry
+	 * cache will not be used when querying model.
+	 */
+	void load(List<PluginExtension> extensions, List<PluginExtensionPoint> extensionPoints) {
+		if (extensions.isEmpty() && extensionPoints.isEmpty()) {
+			return;
+		}
+		if (fExtensions == null) {
+			fExtensions = new ArrayList<>(extensions.size());
+		}
+		if (fExtensionPoints == null) {
+			fExtensionPoints = new ArrayList<>(extensionPoints.size());
+		}
+		for (PluginExtension extension : extensions) {
+			extension.setParent(this);
+			fExtensions.add(extension);
+		}
+		for (PluginExtensionPoint point : extensionPoints) {
+			point.setParent(this);
+			fExtensionPoints.add(point);
+		}
+	}
+
 	/*
 	 * If this function is used to load the model, the extension registry cache will not be used when querying model.
 	 */
@@ -97,8 +97,13 @@ public abstract class AbstractPluginModelBase extends AbstractNLModel implements
 		setLoaded(false);
 		try {
 			SAXParser parser = getSaxParser();
+			if (getUnderlyingResource() == null) {
+				// the extensions of workspace models are provided by the extension registry
+				handler.setExtensionsModel(this);
+			}
 			parser.parse(stream, handler);
 			((PluginBase) fPluginBase).load(handler.getDocumentElement(), handler.getSchemaVersion());
+			((PluginBase) fPluginBase).load(handler.getExtensions(), handler.getExtensionPoints());
 			setLoaded(true);
 			if (!outOfSync) {
 				updateTimeStamp();
@@ -32,6 +32,7 @@ import org.eclipse.pde.internal.core.ischema.ISchemaElement;
 import org.w3c.dom.NamedNodeMap;
 import org.w3c.dom.Node;
 import org.w3c.dom.NodeList;
+import org.xml.sax.Attributes;
 
 public class PluginElement extends PluginParent implements IPluginElement {
 	private static final long serialVersionUID = 1L;
@@ -192,6 +193,24 @@ public class PluginElement extends PluginParent implements IPluginElement {
 		}
 	}
 
+	/**
+	 * Loads the name and attributes of this element from a SAX start tag. The
+	 * names are interned since the same few occur in thousands of elements.
+	 */
+	void load(String name, Attributes attributes) {
+		fName = name;
+		int count = attributes.getLength();
+		fAttributes = new LinkedHashMap<>((int) Math.ceil(count / 0.75), 0.75f);
+		for (int i = 0; i < count; i++) {
+			PluginAttribute att = new PluginAttribute();
+			att.setModel(getModel());
+			att.setParent(this);
+			att.load(attributes.getQName(i).intern(), attributes.getValue(i));
+			att.setInTheModel(true);
+			fAttributes.put(att.getName(), att);
+		}
+	}
+
 	public void removeAttribute(String name) throws CoreException {
 		ensureModelEditable();
 		PluginAttribute att = (PluginAttribute) getAttributeMap().remove(name);
@@ -93,6 +93,13 @@ public class PluginExtension extends PluginParent implements IPluginExtension {
 		fStartLine = Integer.parseInt(getNodeAttribute(node, "line")); //$NON-NLS-1$
 	}
 
+	void load(String id, String name, String point, int line) {
+		fID = id;
+		fName = name;
+		fPoint = point;
+		fStartLine = line;
+	}
+
 	@Override
 	public boolean equals(Object obj) {
 		if (obj == this) {
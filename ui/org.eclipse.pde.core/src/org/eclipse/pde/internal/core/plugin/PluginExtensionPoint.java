@@ -79,6 +79,13 @@ public class PluginExtensionPoint extends IdentifiablePluginObject implements IP
 		fStartLine = Integer.parseInt(getNodeAttribute(node, "line")); //$NON-NLS-1$
 	}
 
+	void load(String id, String name, String schema, int line) {
+		fID = id;
+		fName = name;
+		fSchema = schema;
+		fStartLine = line;
+	}
+
 	@Override
 	public boolean equals(Object obj) {
 		if (obj == this) {
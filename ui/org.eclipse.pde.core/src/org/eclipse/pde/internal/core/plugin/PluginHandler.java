@@ -14,12 +14,17 @@
 package org.eclipse.pde.internal.core.plugin;
 
 import java.io.StringReader;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
 import java.util.Stack;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 import javax.xml.parsers.ParserConfigurationException;
 
+import org.eclipse.pde.core.plugin.ISharedPluginModel;
 import org.eclipse.pde.internal.core.TargetPlatformHelper;
 import org.eclipse.pde.internal.core.util.IdUtil;
 import org.w3c.dom.DOMException;
@@ -33,6 +38,12 @@ import org.xml.sax.Locator;
 import org.xml.sax.SAXException;
 import org.xml.sax.helpers.DefaultHandler;
 
+/**
+ * Parses a plugin.xml or fragment.xml. The <code>extension</code> and
+ * <code>extension-point</code> elements are turned into model objects right
+ * away, if a model to create them for is set. The small rest of the file is
+ * returned as DOM.
+ */
 public class PluginHandler extends DefaultHandler {
 	private Document fDocument;
 	private Element fRootElement;
@@ -41,7 +52,14 @@ public class PluginHandler extends DefaultHandler {
 	private String fSchemaVersion;
 	private final boolean fAbbreviated;
 	private Locator fLocator;
-	private boolean fPop;
+
+	private ISharedPluginModel fExtensionsModel;
+	private final List<PluginExtension> fExtensions = new ArrayList<>();
+	private final List<PluginExtensionPoint> fExtensionPoints = new ArrayList<>();
+	private final Deque<PluginParent> fOpenObjects = new ArrayDeque<>();
+	private final StringBuilder fText = new StringBuilder();
+	// depth within an element whose content is not loaded
+	private int fSkipDepth;
 
 	private static final Pattern VERSION_RE = Pattern.compile("version\\s*=\\s*\"([^\"]+)\""); //$NON-NLS-1$
 
@@ -49,25 +67,45 @@ public class PluginHandler extends DefaultHandler {
 		fAbbreviated = abbreviated;
 	}
 
+	/**
+	 * Sets the model to create the extensions and extension points for. If no
+	 * model is set, they are skipped.
+	 */
+	public void setExtensionsModel(ISharedPluginModel model) {
+		fExtensionsModel = model;
+	}
+
 	@Override
 	public void startElement(String uri, String localName, String qName, Attributes attributes) throws SAXException {
-
-		fPop = true;
-
-		if (fAbbreviated && fOpenElements.size() == 2) {
-			Element parent = fOpenElements.peek();
-			if (parent.getNodeName().equals("extension") && !isInterestingExtension(fOpenElements.peek())) { //$NON-NLS-1$
-				fPop = false;
+		if (fSkipDepth > 0) {
+			fSkipDepth++;
+			return;
+		}
+		if (!fOpenObjects.isEmpty()) {
+			PluginParent parent = fOpenObjects.peek();
+			if (fAbbreviated && parent instanceof PluginExtension extension
+					&& !isInterestingExtension(extension.getPoint())) {
+				fSkipDepth = 1;
 				return;
 			}
+			setText();
+			PluginElement element = new PluginElement();
+			element.setModel(fExtensionsModel);
+			element.setParent(parent);
+			element.setInTheModel(true);
+			element.load(qName.intern(), attributes);
+			parent.getChildrenList().add(element);
+			fOpenObjects.push(element);
+			return;
+		}
+		if (fOpenElements.size() == 1 && ("extension".equals(qName) || "extension-point".equals(qName))) { //$NON-NLS-1$ //$NON-NLS-2$
+			startExtension(qName, attributes);
+			return;
 		}
 
 		Element element = fDocument.createElement(qName);
 		for (int i = 0; i < attributes.getLength(); i++) {
 			element.setAttribute(attributes.getQName(i), attributes.getValue(i));
-			if ("extension".equals(qName) || "extension-point".equals(qName)) { //$NON-NLS-1$ //$NON-NLS-2$
-				element.setAttribute("line", Integer.toString(fLocator.getLineNumber())); //$NON-NLS-1$
-			}
 		}
 
 		if (fRootElement == null) {
@@ -79,18 +117,64 @@ public class PluginHandler extends DefaultHandler {
 		fOpenElements.push(element);
 	}
 
-	protected boolean isInterestingExtension(Element element) {
-		String point = element.getAttribute("point"); //$NON-NLS-1$
+	private void startExtension(String qName, Attributes attributes) {
+		if (fExtensionsModel == null) {
+			fSkipDepth = 1;
+			return;
+		}
+		int line = fLocator != null ? fLocator.getLineNumber() : 1;
+		if ("extension".equals(qName)) { //$NON-NLS-1$
+			PluginExtension extension = new PluginExtension();
+			extension.setModel(fExtensionsModel);
+			extension.setInTheModel(true);
+			extension.load(attributes.getValue("id"), attributes.getValue("name"), attributes.getValue("point"), line); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+			fExtensions.add(extension);
+			fOpenObjects.push(extension);
+		} else {
+			PluginExtensionPoint point = new PluginExtensionPoint();
+			point.setModel(fExtensionsModel);
+			point.setInTheModel(true);
+			point.load(attributes.getValue("id"), attributes.getValue("name"), attributes.getValue("schema"), line); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+			fExtensionPoints.add(point);
+			// the content of an extension point is not part of the model
+			fSkipDepth = 1;
+		}
+	}
+
+	protected boolean isInterestingExtension(String point) {
 		return IdUtil.isInterestingExtensionPoint(point);
 	}
 
 	@Override
 	public void endElement(String uri, String localName, String qName) throws SAXException {
-		if (fPop || (qName.equals("extension") && fOpenElements.size() == 2)) { //$NON-NLS-1$
+		if (fSkipDepth > 0) {
+			fSkipDepth--;
+		} else if (!fOpenObjects.isEmpty()) {
+			setText();
+			fOpenObjects.pop();
+		} else {
 			fOpenElements.pop();
 		}
 	}
 
+	/**
+	 * Passes the text collected since the last start or end tag to the open
+	 * element. This gives the same text as the DOM that was built from the SAX
+	 * events before: comments are not reported to this handler, so the text
+	 * around them is joined like adjacent text nodes of a normalized DOM, the
+	 * content of CDATA sections is reported as characters, and of the text
+	 * between child elements the last non-empty one wins.
+	 */
+	private void setText() {
+		if (fText.length() > 0) {
+			String text = fText.toString().trim();
+			if (!text.isEmpty() && fOpenObjects.peek() instanceof PluginElement element) {
+				element.fText = text;
+			}
+			fText.setLength(0);
+		}
+	}
+
 	@Override
 	public void setDocumentLocator(Locator locator) {
 		fLocator = locator;
@@ -134,11 +218,14 @@ public class PluginHandler extends DefaultHandler {
 	}
 
 	protected void processCharacters(char[] characters, int start, int length) throws DOMException {
-		StringBuilder buff = new StringBuilder();
-		for (int i = 0; i < length; i++) {
-			buff.append(characters[start + i]);
+		if (fSkipDepth > 0) {
+			return;
+		}
+		if (!fOpenObjects.isEmpty()) {
+			fText.append(characters, start, length);
+			return;
 		}
-		Text text = fDocument.createTextNode(buff.toString());
+		Text text = fDocument.createTextNode(new String(characters, start, length));
 		if (fRootElement == null) {
 			fDocument.appendChild(text);
 		} else {
@@ -146,6 +233,11 @@ public class PluginHandler extends DefaultHandler {
 		}
 	}
 
+	/**
+	 * Returns the root element without the <code>extension</code> and
+	 * <code>extension-point</code> elements, see {@link #getExtensions()} and
+	 * {@link #getExtensionPoints()}.
+	 */
 	public Node getDocumentElement() {
 		if (fRootElement != null) {
 			fRootElement.normalize();
@@ -153,6 +245,22 @@ public class PluginHandler extends DefaultHandler {
 		return fRootElement;
 	}
 
+	/**
+	 * @return the extensions created for the model set by
+	 *         {@link #setExtensionsModel(ISharedPluginModel)}
+	 */
+	public List<PluginExtension> getExtensions() {
+		return fExtensions;
+	}
+
+	/**
+	 * @return the extension points created for the model set by
+	 *         {@link #setExtensionsModel(ISharedPluginModel)}
+	 */
+	public List<PluginExtensionPoint> getExtensionPoints() {
+		return fExtensionPoints;
+	}
+
 	public String getSchemaVersion() {
 		return fSchemaVersion;
 	}
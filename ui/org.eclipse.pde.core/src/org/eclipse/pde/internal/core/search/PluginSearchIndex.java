@@ -0,0 +1,277 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.internal.core.search;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Pattern;
+
+import org.eclipse.pde.core.plugin.IFragment;
+import org.eclipse.pde.core.plugin.IPlugin;
+import org.eclipse.pde.core.plugin.IPluginBase;
+import org.eclipse.pde.core.plugin.IPluginExtension;
+import org.eclipse.pde.core.plugin.IPluginExtensionPoint;
+import org.eclipse.pde.core.plugin.IPluginImport;
+import org.eclipse.pde.core.plugin.IPluginModelBase;
+import org.eclipse.pde.core.plugin.ModelEntry;
+import org.eclipse.pde.core.plugin.PluginRegistry;
+import org.eclipse.pde.internal.core.FeatureModelManager;
+import org.eclipse.pde.internal.core.IFeatureModelDelta;
+import org.eclipse.pde.internal.core.IFeatureModelListener;
+import org.eclipse.pde.internal.core.IPluginModelListener;
+import org.eclipse.pde.internal.core.PDECore;
+import org.eclipse.pde.internal.core.PluginModelDelta;
+import org.eclipse.pde.internal.core.ifeature.IFeatureModel;
+import org.eclipse.pde.internal.core.ifeature.IFeaturePlugin;
+
+/**
+ * An inverted index of the identifiers that {@link PluginSearchOperation}
+ * matches against, so that a search only has to walk the models that can
+ * actually contain a match.
+ * <p>
+ * The index is built on first use and kept up to date from the deltas of the
+ * {@link org.eclipse.pde.internal.core.PluginModelManager} and the
+ * {@link FeatureModelManager}. Changed plug-in entries are only reindexed
+ * when the index is queried again.
+ * </p>
+ */
+public class PluginSearchIndex implements IPluginModelListener, IFeatureModelListener {
+
+	public static final int PLUGIN_DECLARATION = 0;
+	public static final int FRAGMENT_DECLARATION = 1;
+	public static final int PLUGIN_REFERENCE = 2;
+	public static final int EXTENSION_POINT_DECLARATION = 3;
+	public static final int EXTENSION_POINT_REFERENCE = 4;
+	private static final int KIND_COUNT = 5;
+
+	private final List<KeyIndex<IPluginModelBase>> fPluginIndexes = new ArrayList<>(KIND_COUNT);
+	private final KeyIndex<IFeatureModel> fFeatureIndex = new KeyIndex<>();
+	private final Map<String, List<IPluginModelBase>> fModelsById = new HashMap<>();
+	// updated by the model listeners without holding the index lock, since
+	// deltas are fired while the model manager holds its own lock
+	private final Set<String> fDirtyIds = ConcurrentHashMap.newKeySet();
+	private final AtomicInteger fFeatureStamp = new AtomicInteger();
+	private boolean fPluginsIndexed;
+	private int fIndexedFeatureStamp = -1;
+
+	public PluginSearchIndex() {
+		for (int i = 0; i < KIND_COUNT; i++) {
+			fPluginIndexes.add(new KeyIndex<>());
+		}
+		PDECore.getDefault().getModelManager().addPluginModelListener(this);
+		PDECore.getDefault().getFeatureModelManager().addFeatureModelListener(this);
+	}
+
+	public void shutdown() {
+		PDECore.getDefault().getModelManager().removePluginModelListener(this);
+		PDECore.getDefault().getFeatureModelManager().removeFeatureModelListener(this);
+	}
+
+	/**
+	 * Returns whether the given plug-in model is known to the index. Models
+	 * that are not indexed must be searched directly.
+	 */
+	public synchronized boolean isIndexed(IPluginModelBase model) {
+		updatePlugins();
+		return fPluginIndexes.get(PLUGIN_DECLARATION).contains(model);
+	}
+
+	/**
+	 * Returns the plug-in models that have at least one identifier of the
+	 * given kind matching the pattern.
+	 *
+	 * @param kind one of the <code>*_DECLARATION</code> or <code>*_REFERENCE</code>
+	 * constants of this class
+	 * @param pattern the search pattern
+	 */
+	public synchronized Set<IPluginModelBase> findPlugins(int kind, Pattern pattern) {
+		updatePlugins();
+		return fPluginIndexes.get(kind).find(pattern);
+	}
+
+	/**
+	 * Returns whether the given feature model is known to the index.
+	 */
+	public synchronized boolean isIndexed(IFeatureModel model) {
+		updateFeatures();
+		return fFeatureIndex.contains(model);
+	}
+
+	/**
+	 * Returns the feature models that include a plug-in whose id matches the
+	 * pattern.
+	 */
+	public synchronized Set<IFeatureModel> findFeatures(Pattern pattern) {
+		updateFeatures();
+		return fFeatureIndex.find(pattern);
+	}
+
+	@Override
+	public void modelsChanged(PluginModelDelta delta) {
+		for (ModelEntry entry : delta.getAddedEntries()) {
+			fDirtyIds.add(entry.getId());
+		}
+		for (ModelEntry entry : delta.getRemovedEntries()) {
+			fDirtyIds.add(entry.getId());
+		}
+		for (ModelEntry entry : delta.getChangedEntries()) {
+			fDirtyIds.add(entry.getId());
+		}
+	}
+
+	@Override
+	public void modelsChanged(IFeatureModelDelta delta) {
+		// features are cheap to index, simply rebuild on next query
+		fFeatureStamp.incrementAndGet();
+	}
+
+	private void updatePlugins() {
+		if (!fPluginsIndexed) {
+			for (KeyIndex<IPluginModelBase> index : fPluginIndexes) {
+				index.clear();
+			}
+			fModelsById.clear();
+			fDirtyIds.clear();
+			for (IPluginModelBase model : PluginRegistry.getWorkspaceModels()) {
+				add(model);
+			}
+			for (IPluginModelBase model : PluginRegistry.getExternalModels()) {
+				add(model);
+			}
+			fPluginsIndexed = true;
+			return;
+		}
+		for (String id : List.copyOf(fDirtyIds)) {
+			fDirtyIds.remove(id);
+			List<IPluginModelBase> old = fModelsById.remove(id);
+			if (old != null) {
+				for (IPluginModelBase model : old) {
+					for (KeyIndex<IPluginModelBase> index : fPluginIndexes) {
+						index.remove(model);
+					}
+				}
+			}
+			ModelEntry entry = PluginRegistry.findEntry(id);
+			if (entry != null) {
+				for (IPluginModelBase model : entry.getWorkspaceModels()) {
+					add(model);
+				}
+				for (IPluginModelBase model : entry.getExternalModels()) {
+					add(model);
+				}
+			}
+		}
+	}
+
+	private void add(IPluginModelBase model) {
+		IPluginBase pluginBase = model.getPluginBase();
+		String id = pluginBase.getId();
+		if (id == null) {
+			return;
+		}
+		fModelsById.computeIfAbsent(id, k -> new ArrayList<>(1)).add(model);
+		// every indexed model has an entry of this kind, even fragments
+		fPluginIndexes.get(PLUGIN_DECLARATION).add(model, pluginBase instanceof IPlugin ? id : null);
+		if (pluginBase instanceof IFragment fragment) {
+			fPluginIndexes.get(FRAGMENT_DECLARATION).add(model, id);
+			fPluginIndexes.get(PLUGIN_REFERENCE).add(model, fragment.getPluginId());
+		}
+		for (IPluginImport pluginImport : pluginBase.getImports()) {
+			fPluginIndexes.get(PLUGIN_REFERENCE).add(model, pluginImport.getId());
+		}
+		for (IPluginExtensionPoint extensionPoint : pluginBase.getExtensionPoints()) {
+			fPluginIndexes.get(EXTENSION_POINT_DECLARATION).add(model, extensionPoint.getFullId());
+		}
+		for (IPluginExtension extension : pluginBase.getExtensions()) {
+			fPluginIndexes.get(EXTENSION_POINT_REFERENCE).add(model, extension.getPoint());
+		}
+	}
+
+	private void updateFeatures() {
+		int stamp = fFeatureStamp.get();
+		if (stamp == fIndexedFeatureStamp) {
+			return;
+		}
+		fFeatureIndex.clear();
+		for (IFeatureModel model : PDECore.getDefault().getFeatureModelManager().getModels()) {
+			fFeatureIndex.add(model, null);
+			for (IFeaturePlugin plugin : model.getFeature().getPlugins()) {
+				fFeatureIndex.add(model, plugin.getId());
+			}
+		}
+		fIndexedFeatureStamp = stamp;
+	}
+
+	/**
+	 * Maps identifiers to the models containing them and back.
+	 */
+	private static final class KeyIndex<M> {
+
+		private final Map<String, Set<M>> fByKey = new HashMap<>();
+		private final Map<M, Set<String>> fByModel = new IdentityHashMap<>();
+
+		/**
+		 * Registers the model and, if not <code>null</code>, the key it contains.
+		 */
+		void add(M model, String key) {
+			Set<String> keys = fByModel.computeIfAbsent(model, m -> new HashSet<>());
+			if (key != null && keys.add(key)) {
+				fByKey.computeIfAbsent(key, k -> Collections.newSetFromMap(new IdentityHashMap<>())).add(model);
+			}
+		}
+
+		void remove(M model) {
+			Set<String> keys = fByModel.remove(model);
+			if (keys == null) {
+				return;
+			}
+			for (String key : keys) {
+				Set<M> models = fByKey.get(key);
+				if (models != null) {
+					models.remove(model);
+					if (models.isEmpty()) {
+						fByKey.remove(key);
+					}
+				}
+			}
+		}
+
+		boolean contains(M model) {
+			return fByModel.containsKey(model);
+		}
+
+		Set<M> find(Pattern pattern) {
+			Set<M> result = Collections.newSetFromMap(new IdentityHashMap<>());
+			for (Map.Entry<String, Set<M>> entry : fByKey.entrySet()) {
+				if (pattern.matcher(entry.getKey()).matches()) {
+					result.addAll(entry.getValue());
+				}
+			}
+			return result;
+		}
+
+		void clear() {
+			fByKey.clear();
+			fByModel.clear();
+		}
+	}
+}
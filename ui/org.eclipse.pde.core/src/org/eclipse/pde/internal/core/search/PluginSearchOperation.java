@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2016 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -15,7 +15,9 @@
 package org.eclipse.pde.internal.core.search;
 
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.regex.Pattern;
 
 import org.eclipse.core.runtime.IProgressMonitor;
@@ -28,6 +30,7 @@ import org.eclipse.pde.core.plugin.IPluginExtension;
 import org.eclipse.pde.core.plugin.IPluginExtensionPoint;
 import org.eclipse.pde.core.plugin.IPluginImport;
 import org.eclipse.pde.core.plugin.IPluginModelBase;
+import org.eclipse.pde.internal.core.PDECore;
 import org.eclipse.pde.internal.core.ifeature.IFeatureModel;
 import org.eclipse.pde.internal.core.ifeature.IFeaturePlugin;
 import org.eclipse.pde.internal.core.util.PatternConstructor;
@@ -48,17 +51,68 @@ public class PluginSearchOperation {
 		IFeatureModel[] features = fInput.getSearchScope().getMatchingFeatureModels();
 		SubMonitor subMonitor = SubMonitor.convert(monitor, plugins.length + features.length);
 
+		// only walk the models the index reports as possible matches
+		PluginSearchIndex index = getSearchIndex();
+		Set<IPluginModelBase> pluginCandidates = index == null ? null : findPluginCandidates(index);
 		for (IPluginModelBase candidate : plugins) {
-			visit(candidate);
+			if (index == null || pluginCandidates.contains(candidate) || !index.isIndexed(candidate)) {
+				visit(candidate);
+			}
 			subMonitor.split(1);
 		}
 
+		Set<IFeatureModel> featureCandidates = index == null ? null : findFeatureCandidates(index);
 		for (IFeatureModel candidate : features) {
-			visit(candidate);
+			if (index == null || featureCandidates.contains(candidate) || !index.isIndexed(candidate)) {
+				visit(candidate);
+			}
 			subMonitor.split(1);
 		}
 	}
 
+	/**
+	 * Returns the index used to skip models that cannot match, or
+	 * <code>null</code> to search every model in scope.
+	 */
+	protected PluginSearchIndex getSearchIndex() {
+		return PDECore.getDefault().getPluginSearchIndex();
+	}
+
+	private Set<IPluginModelBase> findPluginCandidates(PluginSearchIndex index) {
+		Set<IPluginModelBase> result = new HashSet<>();
+		int searchLimit = fInput.getSearchLimit();
+		switch (fInput.getSearchElement()) {
+			case PluginSearchInput.ELEMENT_PLUGIN :
+				if (searchLimit != PluginSearchInput.LIMIT_REFERENCES) {
+					result.addAll(index.findPlugins(PluginSearchIndex.PLUGIN_DECLARATION, fPattern));
+				}
+				if (searchLimit != PluginSearchInput.LIMIT_DECLARATIONS) {
+					result.addAll(index.findPlugins(PluginSearchIndex.PLUGIN_REFERENCE, fPattern));
+				}
+				break;
+			case PluginSearchInput.ELEMENT_FRAGMENT :
+				result.addAll(index.findPlugins(PluginSearchIndex.FRAGMENT_DECLARATION, fPattern));
+				break;
+			case PluginSearchInput.ELEMENT_EXTENSION_POINT :
+				if (searchLimit != PluginSearchInput.LIMIT_REFERENCES) {
+					result.addAll(index.findPlugins(PluginSearchIndex.EXTENSION_POINT_DECLARATION, fPattern));
+				}
+				if (searchLimit != PluginSearchInput.LIMIT_DECLARATIONS) {
+					result.addAll(index.findPlugins(PluginSearchIndex.EXTENSION_POINT_REFERENCE, fPattern));
+				}
+				break;
+		}
+		return result;
+	}
+
+	private Set<IFeatureModel> findFeatureCandidates(PluginSearchIndex index) {
+		if (fInput.getSearchElement() == PluginSearchInput.ELEMENT_PLUGIN
+				&& fInput.getSearchLimit() != PluginSearchInput.LIMIT_DECLARATIONS) {
+			return index.findFeatures(fPattern);
+		}
+		return Set.of();
+	}
+
 	private void visit(IPluginModelBase model) {
 		ArrayList<IIdentifiable> matches = findMatch(model);
 		for (int i = 0; i < matches.size(); i++) {
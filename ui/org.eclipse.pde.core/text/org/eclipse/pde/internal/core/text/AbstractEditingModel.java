@@ -26,6 +26,7 @@ import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IPath;
 import org.eclipse.core.runtime.PlatformObject;
 import org.eclipse.jface.text.IDocument;
+import org.eclipse.jface.text.IDocumentExtension4;
 import org.eclipse.pde.core.IModelChangedEvent;
 import org.eclipse.pde.core.IModelChangedListener;
 import org.eclipse.pde.core.ModelChangedEvent;
@@ -47,6 +48,9 @@ public abstract class AbstractEditingModel extends PlatformObject implements IEd
 	private IResource fUnderlyingResource;
 	private String fInstallLocation;
 	private volatile boolean fStale;
+	// modification stamp of the document the model was last loaded from, to
+	// skip reconciles without changes
+	private long fLoadedStamp = IDocumentExtension4.UNKNOWN_MODIFICATION_STAMP;
 
 	public AbstractEditingModel(IDocument document, boolean isReconciling) {
 		fDocument = document;
@@ -118,11 +122,14 @@ public abstract class AbstractEditingModel extends PlatformObject implements IEd
 
 	@Override
 	public final void load() throws CoreException {
+		long stamp = getModificationStamp(getDocument());
 		load(getInputStream(getDocument()), false);
+		fLoadedStamp = stamp;
 	}
 
 	@Override
 	public final void reload(InputStream source, boolean outOfSync) throws CoreException {
+		fLoadedStamp = IDocumentExtension4.UNKNOWN_MODIFICATION_STAMP;
 		load(source, outOfSync);
 		fireModelChanged(new ModelChangedEvent(this, IModelChangedEvent.WORLD_CHANGED, new Object[] {this}, null));
 
@@ -141,12 +148,15 @@ public abstract class AbstractEditingModel extends PlatformObject implements IEd
 	@Override
 	public final void reconciled(IDocument document) {
 		if (isReconcilingModel()) {
+			long stamp = getModificationStamp(document);
 			try {
 				if (isStale()) {
 					adjustOffsets(document);
 					setStale(false);
-				} else {
+					fLoadedStamp = stamp;
+				} else if (stamp == IDocumentExtension4.UNKNOWN_MODIFICATION_STAMP || stamp != fLoadedStamp) {
 					reload(getInputStream(document), false);
+					fLoadedStamp = stamp;
 				}
 			} catch (CoreException e) {
 			}
@@ -158,6 +168,11 @@ public abstract class AbstractEditingModel extends PlatformObject implements IEd
 
 	public abstract void adjustOffsets(IDocument document) throws CoreException;
 
+	private static long getModificationStamp(IDocument document) {
+		return document instanceof IDocumentExtension4 extension ? extension.getModificationStamp()
+				: IDocumentExtension4.UNKNOWN_MODIFICATION_STAMP;
+	}
+
 	protected InputStream getInputStream(IDocument document) {
 		return new ByteArrayInputStream(document.get().getBytes(getCharset()));
 	}
@@ -115,6 +115,14 @@ public class DocumentAttributeNode extends DocumentXMLNode implements IDocumentA
 				PDEXMLHelper.getWritableAttributeString(fValue) + "\""; //$NON-NLS-1$
 	}
 
+	@Override
+	public DocumentAttributeNode copy() {
+		// Not used by text edit operations
+		DocumentAttributeNode copy = (DocumentAttributeNode) shallowCopy();
+		copy.fEnclosingElement = null;
+		return copy;
+	}
+
 	@Override
 	public void reconnect(IDocumentElementNode parent) {
 		// Transient field:  Enclosing element
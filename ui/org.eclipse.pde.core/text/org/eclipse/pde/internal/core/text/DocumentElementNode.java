@@ -44,8 +44,8 @@ public abstract class DocumentElementNode extends DocumentXMLNode implements IDo
 	private transient IDocumentElementNode fPreviousSibling;
 	private transient int fIndent;
 
-	private final ArrayList<IDocumentElementNode> fChildren;
-	private final TreeMap<String, IDocumentAttributeNode> fAttributes;
+	private ArrayList<IDocumentElementNode> fChildren;
+	private TreeMap<String, IDocumentAttributeNode> fAttributes;
 	private String fTag;
 	private IDocumentTextNode fTextNode;
 
@@ -471,6 +471,22 @@ public abstract class DocumentElementNode extends DocumentXMLNode implements IDo
 		reconnectChildren(model);
 	}
 
+	@Override
+	public DocumentElementNode copy() {
+		// Not used by text edit operations
+		DocumentElementNode copy = (DocumentElementNode) shallowCopy();
+		copy.fParent = null;
+		copy.fPreviousSibling = null;
+		copy.fChildren = new ArrayList<>(fChildren.size());
+		for (IDocumentElementNode child : fChildren) {
+			copy.fChildren.add(child.copy());
+		}
+		copy.fAttributes = new TreeMap<>();
+		fAttributes.forEach((name, attribute) -> copy.fAttributes.put(name, attribute.copy()));
+		copy.fTextNode = fTextNode != null ? fTextNode.copy() : null;
+		return copy;
+	}
+
 	private void reconnectAttributes() {
 		// Get all attributes
 		// Fill in appropriate transient field values for all attributes
@@ -14,11 +14,6 @@
 
 package org.eclipse.pde.internal.core.text;
 
-import java.io.ByteArrayInputStream;
-import java.io.ByteArrayOutputStream;
-import java.io.IOException;
-import java.io.ObjectInputStream;
-import java.io.ObjectOutputStream;
 import java.io.PrintWriter;
 import java.nio.charset.Charset;
 import java.util.ArrayList;
@@ -481,25 +476,9 @@ public abstract class DocumentObject extends DocumentElementNode implements IDoc
 
 	@Override
 	public IDocumentElementNode clone(IDocumentElementNode node) {
-		IDocumentElementNode clone = null;
-		try (ByteArrayOutputStream bout = new ByteArrayOutputStream()) {
-			// Serialize
-
-			try (ObjectOutputStream out = new ObjectOutputStream(bout)) {
-				out.writeObject(node);
-				out.flush();
-			}
-			byte[] bytes = bout.toByteArray();
-			// Deserialize
-			try (ByteArrayInputStream bin = new ByteArrayInputStream(bytes);
-					ObjectInputStream in = new ObjectInputStream(bin)) {
-				clone = (IDocumentElementNode) in.readObject();
-			}
-			// Reconnect
-			clone.reconnect(this, fModel);
-		} catch (IOException | ClassNotFoundException e) {
-		}
-
+		IDocumentElementNode clone = node.copy();
+		// Reconnect
+		clone.reconnect(this, fModel);
 		return clone;
 	}
 
@@ -76,6 +76,14 @@ public class DocumentTextNode extends DocumentXMLNode implements IDocumentTextNo
 		fLength = length;
 	}
 
+	@Override
+	public DocumentTextNode copy() {
+		// Not used by text edit operations
+		DocumentTextNode copy = (DocumentTextNode) shallowCopy();
+		copy.fEnclosingElement = null;
+		return copy;
+	}
+
 	@Override
 	public void reconnect(IDocumentElementNode parent) {
 		// Transient field:  Enclosing Element
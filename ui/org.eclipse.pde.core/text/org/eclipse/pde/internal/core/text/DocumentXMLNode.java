@@ -14,12 +14,24 @@
 
 package org.eclipse.pde.internal.core.text;
 
-public abstract class DocumentXMLNode implements IDocumentXMLNode {
+public abstract class DocumentXMLNode implements IDocumentXMLNode, Cloneable {
 
 	public DocumentXMLNode() {
 		// NO-OP
 	}
 
+	/**
+	 * Returns a field by field copy of this node. Subclasses holding mutable
+	 * state have to replace it with copies of their own.
+	 */
+	protected DocumentXMLNode shallowCopy() {
+		try {
+			return (DocumentXMLNode) super.clone();
+		} catch (CloneNotSupportedException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
 	@Override
 	public String toString() {
 		return write();
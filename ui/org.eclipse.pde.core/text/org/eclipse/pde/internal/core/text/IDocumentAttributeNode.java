@@ -54,4 +54,7 @@ public interface IDocumentAttributeNode extends IDocumentRange, Serializable, ID
 	// Not used by text edit operations
 	public void reconnect(IDocumentElementNode parent);
 
+	// Not used by text edit operations
+	public IDocumentAttributeNode copy();
+
 }
@@ -121,6 +121,14 @@ public interface IDocumentElementNode extends Serializable, IDocumentRange, IDoc
 	// Not used by text edit operations
 	public void reconnect(IDocumentElementNode parent, IModel model);
 
+	// Not used by text edit operations
+	/**
+	 * Returns a deep copy of this node with its attributes, text and children.
+	 * The copy has to be reconnected before it is used, see
+	 * {@link #reconnect(IDocumentElementNode, IModel)}.
+	 */
+	public IDocumentElementNode copy();
+
 	// Not used by text edit operations
 	/**
 	 * @param text String already trimmed and formatted
@@ -32,6 +32,9 @@ public interface IDocumentTextNode extends IDocumentRange, Serializable, IDocume
 	// Not used by text edit operations
 	void reconnect(IDocumentElementNode parent);
 
+	// Not used by text edit operations
+	IDocumentTextNode copy();
+
 	// Not used by text edit operations
 	String write();
 
@@ -13,6 +13,7 @@
  *******************************************************************************/
 package org.eclipse.pde.internal.core.text.bundle;
 
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.Map;
 import java.util.concurrent.ConcurrentSkipListMap;
@@ -39,19 +40,23 @@ public class Bundle implements IBundle {
 	/**
 	 * Loads the given map as the set of headers this model represents. Any previously set
 	 * headers will be cleared.  The provided map must be string header keys to string
-	 * values.
+	 * values. Headers whose name and value did not change are kept, so that their
+	 * elements need not be parsed again.
 	 *
 	 * @param headers the headers to load in this model
 	 */
 	public void load(Map<String, String> headers) {
+		Map<String, IManifestHeader> previous = new HashMap<>();
+		for (IManifestHeader header : fDocumentHeaders.values()) {
+			previous.put(header.getKey(), header);
+		}
 		fDocumentHeaders.clear();
 		Iterator<String> iter = headers.keySet().iterator();
 		while (iter.hasNext()) {
 			String key = iter.next();
 			if (key.equals(Constants.BUNDLE_MANIFESTVERSION)) {
 				String value = headers.get(key);
-				IManifestHeader header = fModel.getFactory().createHeader(key, value);
-				fDocumentHeaders.put(key, header);
+				fDocumentHeaders.put(key, createHeader(previous, key, value));
 				break;
 			}
 		}
@@ -63,12 +68,19 @@ public class Bundle implements IBundle {
 				continue;
 			}
 			String value = headers.get(key).toString();
-			IManifestHeader header = fModel.getFactory().createHeader(key, value);
-			fDocumentHeaders.put(key, header);
+			fDocumentHeaders.put(key, createHeader(previous, key, value));
 		}
 		adjustOffsets(fModel.getDocument());
 	}
 
+	private IManifestHeader createHeader(Map<String, IManifestHeader> previous, String key, String value) {
+		IManifestHeader header = previous.get(key);
+		if (header != null && value.equals(header.getValue())) {
+			return header;
+		}
+		return fModel.getFactory().createHeader(key, value);
+	}
+
 	public void clearOffsets() {
 		Iterator<IManifestHeader> iter = fDocumentHeaders.values().iterator();
 		while (iter.hasNext()) {
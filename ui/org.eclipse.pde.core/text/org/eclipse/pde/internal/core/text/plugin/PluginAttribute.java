@@ -30,7 +30,7 @@ public class PluginAttribute extends PluginObjectNode implements IPluginAttribut
 	// element node class - which is wrong when implementing
 	// the document attribute node interface
 	// To work around this issue, we use an adaptor.
-	private final DocumentAttributeNode fAttribute;
+	private DocumentAttributeNode fAttribute;
 
 	private String fValue;
 
@@ -140,6 +140,13 @@ public class PluginAttribute extends PluginObjectNode implements IPluginAttribut
 		fAttribute.reconnect(parent);
 	}
 
+	@Override
+	public PluginAttribute copy() {
+		PluginAttribute copy = (PluginAttribute) super.copy();
+		copy.fAttribute = fAttribute.copy();
+		return copy;
+	}
+
 	@Override
 	public void write(String indent, PrintWriter writer) {
 		// Used for text transfers for copy, cut, paste operations
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2016, 2024 Red Hat Inc. and others
+ * Copyright (c) 2016, 2026 Red Hat Inc. and others
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -17,13 +17,14 @@ package org.eclipse.pde.internal.genericeditor.target.extension.model;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -44,6 +45,11 @@ import org.eclipse.pde.internal.genericeditor.target.extension.p2.P2Fetcher.Repo
  *
  * There will be only one cache shared between editors. In the future a function
  * will be added for the user to be able to flush this cache.
+ *
+ * The compact id/version index of each repository is also kept on disk by a
+ * {@link RepositoryMetadataStore}. A stored index is served immediately and
+ * revalidated in the background once it is older than an hour or, for local
+ * repositories, once the repository changed.
  */
 public class RepositoryCache {
 
@@ -54,7 +60,20 @@ public class RepositoryCache {
 	private static record RepositoryMetadata(Map<String, List<IVersionedId>> units, List<URI> children) {
 	}
 
-	private static final Map<URI, CompletableFuture<RepositoryMetadata>> CACHE = new ConcurrentHashMap<>();
+	private static final int MAX_CACHED_REPOSITORIES = 32;
+	private static final long REVALIDATE_AFTER = TimeUnit.HOURS.toMillis(1);
+
+	private static final Map<URI, CompletableFuture<RepositoryMetadata>> CACHE = Collections
+			.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+				private static final long serialVersionUID = 1L;
+
+				@Override
+				protected boolean removeEldestEntry(Map.Entry<URI, CompletableFuture<RepositoryMetadata>> eldest) {
+					return size() > MAX_CACHED_REPOSITORIES;
+				}
+			});
+
+	private static final RepositoryMetadataStore STORE = RepositoryMetadataStore.create();
 
 	/**
 	 * Fetches information and caches it.
@@ -102,11 +121,23 @@ public class RepositoryCache {
 			// Fetching P2 repository information is a costly operation
 			// time-wise. Thus it is done in a job.
 			Job job = Job.create(NLS.bind(Messages.UpdateJob_P2DataFetch, repo), m -> {
+				RepositoryMetadataStore.Entry stored = STORE.read(repo);
+				if (stored != null) {
+					future.complete(new RepositoryMetadata(toSortedMap(stored.units().stream()), stored.children()));
+					if (!STORE.isStale(repo, stored, REVALIDATE_AFTER)) {
+						return;
+					}
+				}
 				try {
 					RepositoryContent content = P2Fetcher.fetchAvailableUnits(repo, m);
 					Map<String, List<IVersionedId>> units = toSortedMap(
 							content.units().stream().map(iu -> new VersionedId(iu.getId(), iu.getVersion())));
-					future.complete(new RepositoryMetadata(units, content.children()));
+					RepositoryMetadata metadata = new RepositoryMetadata(units, content.children());
+					STORE.write(repo, units.values().stream().flatMap(List::stream).toList(), content.children());
+					if (!future.complete(metadata)) {
+						// the stored index was served already, replace it with the revalidated one
+						CACHE.put(repo, CompletableFuture.completedFuture(metadata));
+					}
 				} catch (Throwable e) {
 					future.completeExceptionally(e);
 					// Only log the failure, don't open an error-dialog.
@@ -0,0 +1,239 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.internal.genericeditor.target.extension.model;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.eclipse.core.runtime.ILog;
+import org.eclipse.core.runtime.Platform;
+import org.eclipse.equinox.p2.metadata.IVersionedId;
+import org.eclipse.equinox.p2.metadata.Version;
+import org.eclipse.equinox.p2.metadata.VersionedId;
+import org.osgi.framework.FrameworkUtil;
+
+/**
+ * Keeps the unit id/version index of p2 repositories on disk, so that content
+ * assist does not have to wait for a repository to be loaded after a restart.
+ * <p>
+ * Each repository is stored in its own small text file, named after a hash of
+ * its location and carrying the time it was fetched. Only the
+ * {@value #MAX_ENTRIES} most recently used repositories are kept.
+ * </p>
+ */
+class RepositoryMetadataStore {
+
+	static record Entry(long timestamp, List<IVersionedId> units, List<URI> children) {
+	}
+
+	private static final String FORMAT_VERSION = "v1"; //$NON-NLS-1$
+	private static final String FOLDER = "repositories"; //$NON-NLS-1$
+	private static final int MAX_ENTRIES = 50;
+	/** Repository files of a local mirror that indicate a change of its content. */
+	private static final String[] INDEX_FILES = { "content.jar", "content.xml", "content.xml.xz", //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+			"compositeContent.jar", "compositeContent.xml", "p2.index" }; //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+
+	private final Path folder;
+
+	private RepositoryMetadataStore(Path folder) {
+		this.folder = folder;
+	}
+
+	static RepositoryMetadataStore create() {
+		Path folder = null;
+		try {
+			folder = Platform.getStateLocation(FrameworkUtil.getBundle(RepositoryMetadataStore.class)).append(FOLDER)
+					.toPath();
+		} catch (RuntimeException e) {
+			// no state location available, e.g. in a read-only installation
+		}
+		return new RepositoryMetadataStore(folder);
+	}
+
+	/**
+	 * @return the stored index of the given repository or <code>null</code> if
+	 *         there is none
+	 */
+	Entry read(URI repository) {
+		Path file = fileOf(repository);
+		if (file == null || !Files.isRegularFile(file)) {
+			return null;
+		}
+		try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+			if (!FORMAT_VERSION.equals(reader.readLine()) || !repository.toString().equals(reader.readLine())) {
+				return null;
+			}
+			long timestamp = Long.parseLong(reader.readLine());
+			int childCount = Integer.parseInt(reader.readLine());
+			List<URI> children = new ArrayList<>(childCount);
+			for (int i = 0; i < childCount; i++) {
+				children.add(URI.create(reader.readLine()));
+			}
+			List<IVersionedId> units = new ArrayList<>();
+			String line;
+			while ((line = reader.readLine()) != null) {
+				int separator = line.indexOf(' ');
+				if (separator > 0) {
+					units.add(new VersionedId(line.substring(0, separator),
+							Version.create(line.substring(separator + 1))));
+				}
+			}
+			// mark as recently used
+			Files.setLastModifiedTime(file, FileTime.fromMillis(System.currentTimeMillis()));
+			return new Entry(timestamp, units, children);
+		} catch (IOException | RuntimeException e) {
+			// unreadable, it will be replaced by the next fetch
+			return null;
+		}
+	}
+
+	void write(URI repository, List<IVersionedId> units, List<URI> children) {
+		Path file = fileOf(repository);
+		if (file == null) {
+			return;
+		}
+		Path tmp = null;
+		try {
+			Files.createDirectories(folder);
+			tmp = Files.createTempFile(folder, null, ".tmp"); //$NON-NLS-1$
+			try (BufferedWriter writer = Files.newBufferedWriter(tmp, StandardCharsets.UTF_8)) {
+				writer.write(FORMAT_VERSION);
+				writer.newLine();
+				writer.write(repository.toString());
+				writer.newLine();
+				writer.write(Long.toString(System.currentTimeMillis()));
+				writer.newLine();
+				writer.write(Integer.toString(children.size()));
+				writer.newLine();
+				for (URI child : children) {
+					writer.write(child.toString());
+					writer.newLine();
+				}
+				for (IVersionedId unit : units) {
+					writer.write(unit.getId());
+					writer.write(' ');
+					writer.write(unit.getVersion().toString());
+					writer.newLine();
+				}
+			}
+			Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING);
+			evict();
+		} catch (IOException e) {
+			ILog.get().warn("Can't store p2 metadata index of " + repository, e); //$NON-NLS-1$
+			if (tmp != null) {
+				try {
+					Files.deleteIfExists(tmp);
+				} catch (IOException ex) {
+					// it is not picked up as an entry, at worst it stays around
+				}
+			}
+		}
+	}
+
+	/**
+	 * Returns whether a stored entry of the given age has to be fetched again.
+	 * Local repositories are compared against their index files and those of
+	 * their composite children, remote ones expire after the given time. A
+	 * local composite with remote children expires as well.
+	 */
+	boolean isStale(URI repository, Entry entry, long maxAge) {
+		if (!isLocal(repository)) {
+			return isExpired(entry, maxAge);
+		}
+		if (hasChangedIndex(repository, entry)) {
+			return true;
+		}
+		boolean hasRemoteChildren = false;
+		for (URI child : entry.children()) {
+			URI location = repository.resolve(child);
+			if (isLocal(location)) {
+				if (hasChangedIndex(location, entry)) {
+					return true;
+				}
+			} else {
+				hasRemoteChildren = true;
+			}
+		}
+		return hasRemoteChildren && isExpired(entry, maxAge);
+	}
+
+	private static boolean isLocal(URI repository) {
+		return "file".equals(repository.getScheme()); //$NON-NLS-1$
+	}
+
+	private static boolean isExpired(Entry entry, long maxAge) {
+		return System.currentTimeMillis() - entry.timestamp() > maxAge;
+	}
+
+	private static boolean hasChangedIndex(URI repository, Entry entry) {
+		try {
+			Path location = Path.of(repository);
+			for (String name : INDEX_FILES) {
+				Path index = location.resolve(name);
+				if (Files.isRegularFile(index) && Files.getLastModifiedTime(index).toMillis() > entry.timestamp()) {
+					return true;
+				}
+			}
+			return false;
+		} catch (IOException | RuntimeException e) {
+			return true;
+		}
+	}
+
+	private void evict() throws IOException {
+		List<Path> files;
+		try (Stream<Path> list = Files.list(folder)) {
+			files = list.filter(f -> f.getFileName().toString().endsWith(".idx")).sorted(Comparator //$NON-NLS-1$
+					.comparing(RepositoryMetadataStore::lastModified).reversed()).toList();
+		}
+		for (int i = MAX_ENTRIES; i < files.size(); i++) {
+			Files.deleteIfExists(files.get(i));
+		}
+	}
+
+	private static FileTime lastModified(Path file) {
+		try {
+			return Files.getLastModifiedTime(file);
+		} catch (IOException e) {
+			return FileTime.fromMillis(0);
+		}
+	}
+
+	private Path fileOf(URI repository) {
+		if (folder == null) {
+			return null;
+		}
+		try {
+			byte[] hash = MessageDigest.getInstance("SHA-256") //$NON-NLS-1$
+					.digest(repository.toString().getBytes(StandardCharsets.UTF_8));
+			return folder.resolve(HexFormat.of().formatHex(hash) + ".idx"); //$NON-NLS-1$
+		} catch (NoSuchAlgorithmException e) {
+			return null;
+		}
+	}
+}
@@ -0,0 +1,50 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.junit.runtime.tests;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.File;
+
+import org.eclipse.core.runtime.IPath;
+import org.eclipse.pde.internal.junit.runtime.DevBundleRefresher;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class DevBundleRefresherTest {
+
+	@Rule
+	public TemporaryFolder tempFolder = new TemporaryFolder();
+
+	@Test
+	public void testFolderWithSpace() throws Exception {
+		File folder = tempFolder.newFolder("with space");
+
+		// written like LaunchConfigurationHelper.getBundleURL does
+		String location = "reference:file:" + IPath.fromOSString(folder.getAbsolutePath()).toString();
+
+		assertThat(DevBundleRefresher.getFolder(location)).isEqualTo(folder);
+	}
+
+	@Test
+	public void testNoFolder() throws Exception {
+		File jar = tempFolder.newFile("bundle.jar");
+
+		assertThat(DevBundleRefresher.getFolder(null)).isNull();
+		assertThat(DevBundleRefresher.getFolder("reference:file:" + jar.getAbsolutePath())).isNull();
+		assertThat(DevBundleRefresher.getFolder(tempFolder.getRoot().toURI().toString())).isNull();
+	}
+
+}
@@ -18,7 +18,8 @@ import org.junit.runners.Suite;
 import org.junit.runners.Suite.SuiteClasses;
 
 @RunWith(Suite.class)
-@SuiteClasses({ JUnitExecutionTest.class, JUnit5SuiteExecutionTest.class })
+@SuiteClasses({ JUnitExecutionTest.class, JUnit5SuiteExecutionTest.class, TestShardsTest.class,
+		DevBundleRefresherTest.class })
 public class JUnitRuntimeTests {
 
 }
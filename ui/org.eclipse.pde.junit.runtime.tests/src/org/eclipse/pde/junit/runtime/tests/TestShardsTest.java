@@ -0,0 +1,119 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.junit.runtime.tests;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+
+import org.eclipse.pde.internal.junit.runtime.TestShards;
+import org.junit.Test;
+
+public class TestShardsTest {
+
+	@Test
+	public void testBalancedByDuration() {
+		Properties durations = new Properties();
+		durations.setProperty("a.Slow", "100");
+		durations.setProperty("a.Medium1", "50");
+		durations.setProperty("a.Medium2", "50");
+		durations.setProperty("a.Fast1", "25");
+		durations.setProperty("a.Fast2", "25");
+
+		List<List<String>> shards = TestShards.distribute(
+				List.of("a.Fast1", "a.Medium1", "a.Slow", "a.Fast2", "a.Medium2"), durations, 2);
+
+		assertThat(shards).containsExactly( //
+				List.of("a.Slow", "a.Fast1"), //
+				List.of("a.Medium1", "a.Medium2", "a.Fast2"));
+	}
+
+	@Test
+	public void testUnknownDurationCountsAsAverage() {
+		Properties durations = new Properties();
+		durations.setProperty("a.Slow", "90");
+		durations.setProperty("a.Fast", "10");
+
+		// a.New counts with 50, so it joins the shard of a.Fast
+		List<List<String>> shards = TestShards.distribute(List.of("a.Slow", "a.Fast", "a.New"), durations, 2);
+
+		assertThat(shards).containsExactly(List.of("a.Slow"), List.of("a.New", "a.Fast"));
+	}
+
+	@Test
+	public void testMissingHistory() {
+		List<String> classNames = List.of("a.T1", "a.T2", "a.T3", "a.T4", "a.T5");
+
+		List<List<String>> shards = TestShards.distribute(classNames, new Properties(), 2);
+
+		// all classes count the same and keep their order
+		assertThat(shards).containsExactly(List.of("a.T1", "a.T3", "a.T5"), List.of("a.T2", "a.T4"));
+	}
+
+	@Test
+	public void testMoreShardsThanClasses() {
+		List<List<String>> shards = TestShards.distribute(List.of("a.T1", "a.T2"), new Properties(), 4);
+
+		assertThat(shards).containsExactly(List.of("a.T1"), List.of("a.T2"), List.of(), List.of());
+	}
+
+	@Test
+	public void testEveryClassInExactlyOneShard() {
+		List<String> classNames = new ArrayList<>();
+		Properties durations = new Properties();
+		for (int i = 0; i < 20; i++) {
+			classNames.add("a.T" + i);
+			durations.setProperty("a.T" + i, Integer.toString(i * 7 % 13));
+		}
+
+		List<List<String>> shards = TestShards.distribute(classNames, durations, 3);
+
+		assertThat(shards).hasSize(3);
+		assertThat(shards.stream().flatMap(List::stream)).containsExactlyInAnyOrderElementsOf(classNames);
+	}
+
+	@Test
+	public void testSelect() throws Exception {
+		String[] args = TestShards.select(new String[] { "-port", "1234", "-shardcount", "2", "-shardindex", "1",
+				"-classNames", "a.T1", "a.T2", "a.T3", "-sharddurations", "does/not/exist.properties" });
+
+		assertThat(args).hasSize(4);
+		assertThat(args).startsWith("-port", "1234", "-testNameFile");
+		assertThat(Files.readAllLines(Path.of(args[3]), StandardCharsets.UTF_8)).containsExactly("a.T2");
+	}
+
+	@Test
+	public void testSelectWithoutSharding() throws Exception {
+		String[] args = new String[] { "-classNames", "a.T1" };
+
+		assertThat(TestShards.select(args)).isSameAs(args);
+	}
+
+	@Test
+	public void testInvalidShardIndex() {
+		assertThatIllegalArgumentException().isThrownBy(() -> TestShards
+				.select(new String[] { "-shardcount", "2", "-shardindex", "2", "-classNames", "a.T1" }));
+		assertThatIllegalArgumentException().isThrownBy(() -> TestShards
+				.select(new String[] { "-shardcount", "2", "-shardindex", "-1", "-classNames", "a.T1" }));
+		assertThatIllegalArgumentException()
+				.isThrownBy(() -> TestShards.select(new String[] { "-shardcount", "2", "-classNames", "a.T1" }));
+	}
+
+}
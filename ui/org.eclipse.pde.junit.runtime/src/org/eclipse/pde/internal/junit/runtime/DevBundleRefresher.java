@@ -0,0 +1,225 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.internal.junit.runtime;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Platform;
+import org.eclipse.core.runtime.Status;
+import org.osgi.framework.Bundle;
+import org.osgi.framework.BundleContext;
+import org.osgi.framework.BundleException;
+import org.osgi.framework.Constants;
+import org.osgi.framework.FrameworkUtil;
+import org.osgi.framework.wiring.FrameworkWiring;
+
+/**
+ * Keeps a test runtime that stays alive between test runs up to date with
+ * the workspace. Bundles that are launched from a directory, i.e. the
+ * workspace plug-ins, are updated and refreshed before a rerun if any of
+ * their classes or manifests changed since they were last loaded, so that
+ * the rerun does not need a new runtime. Only the output folders given by the
+ * dev class path (<code>osgi.dev</code>) and the manifests are checked, not
+ * the whole project.
+ */
+public class DevBundleRefresher {
+
+	private static final String REFERENCE_FILE_PREFIX = "reference:file:"; //$NON-NLS-1$
+	private static final String OSGI_DEV = "osgi.dev"; //$NON-NLS-1$
+	private static final String[] MANIFESTS = {"META-INF/MANIFEST.MF", "plugin.xml", "fragment.xml"}; //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+	private static final long REFRESH_TIMEOUT = 60;
+
+	private final BundleContext fContext;
+	private final Map<Bundle, Long> fStamps = new HashMap<>();
+	private String fDefaultDevClassPath;
+	private Properties fDevProperties;
+
+	DevBundleRefresher() {
+		fContext = FrameworkUtil.getBundle(DevBundleRefresher.class).getBundleContext();
+		readDevClassPath();
+		for (Bundle bundle : fContext.getBundles()) {
+			File folder = getFolder(bundle.getLocation());
+			if (folder != null) {
+				fStamps.put(bundle, Long.valueOf(newestChange(bundle, folder)));
+			}
+		}
+	}
+
+	/**
+	 * Updates and refreshes the workspace bundles that changed since the last
+	 * call and waits for the refresh to complete.
+	 */
+	void refreshChanged() {
+		List<Bundle> changed = new ArrayList<>();
+		for (Map.Entry<Bundle, Long> entry : fStamps.entrySet()) {
+			Bundle bundle = entry.getKey();
+			File folder = getFolder(bundle.getLocation());
+			if (folder == null) {
+				continue;
+			}
+			long stamp = newestChange(bundle, folder);
+			if (stamp > entry.getValue().longValue()) {
+				entry.setValue(Long.valueOf(stamp));
+				try {
+					bundle.update();
+					changed.add(bundle);
+				} catch (BundleException e) {
+					log("Could not update bundle " + bundle.getSymbolicName() + '.', e); //$NON-NLS-1$
+				}
+			}
+		}
+		if (changed.isEmpty()) {
+			return;
+		}
+		CountDownLatch done = new CountDownLatch(1);
+		FrameworkWiring wiring = fContext.getBundle(0).adapt(FrameworkWiring.class);
+		wiring.refreshBundles(changed, event -> done.countDown());
+		try {
+			if (!done.await(REFRESH_TIMEOUT, TimeUnit.SECONDS)) {
+				log("Refreshing the changed bundles did not complete within " + REFRESH_TIMEOUT //$NON-NLS-1$
+						+ " seconds, the tests might run against the previous classes.", null); //$NON-NLS-1$
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	private void log(String message, Throwable exception) {
+		Bundle bundle = fContext.getBundle();
+		Platform.getLog(bundle).log(new Status(IStatus.WARNING, bundle.getSymbolicName(), message, exception));
+	}
+
+	/**
+	 * Reads the dev class path the same way the framework does: the
+	 * <code>osgi.dev</code> property is either the URL of a properties file
+	 * mapping bundle names to their output folders or the output folders of
+	 * all bundles.
+	 */
+	private void readDevClassPath() {
+		String dev = fContext.getProperty(OSGI_DEV);
+		if (dev == null) {
+			return;
+		}
+		try {
+			URL url = new URL(dev);
+			Properties properties = new Properties();
+			try (InputStream stream = url.openStream()) {
+				properties.load(stream);
+				fDevProperties = properties;
+			} catch (IOException e) {
+				log("Could not read the dev class path from " + dev + '.', e); //$NON-NLS-1$
+			}
+		} catch (MalformedURLException e) {
+			fDefaultDevClassPath = dev;
+		}
+	}
+
+	/**
+	 * Returns the folders below the given bundle folder that contain its
+	 * classes: the dev class path of the bundle if there is one, otherwise
+	 * its bundle class path.
+	 */
+	private List<File> getClassFolders(Bundle bundle, File folder) {
+		String entries;
+		if (fDevProperties != null) {
+			entries = fDevProperties.getProperty(bundle.getSymbolicName(), fDevProperties.getProperty("*")); //$NON-NLS-1$
+		} else {
+			entries = fDefaultDevClassPath;
+		}
+		if (entries == null) {
+			entries = bundle.getHeaders("").get(Constants.BUNDLE_CLASSPATH); //$NON-NLS-1$
+		}
+		if (entries == null) {
+			entries = "."; //$NON-NLS-1$
+		}
+		List<File> folders = new ArrayList<>();
+		for (String entry : entries.split(",")) { //$NON-NLS-1$
+			// strip attributes of Bundle-ClassPath entries
+			String path = entry.split(";")[0].trim(); //$NON-NLS-1$
+			if (path.isEmpty()) {
+				continue;
+			}
+			File file = new File(path);
+			if (!file.isAbsolute()) {
+				file = new File(folder, path);
+			}
+			if (file.isDirectory()) {
+				folders.add(file);
+			}
+		}
+		return folders;
+	}
+
+	/**
+	 * Returns the directory of a bundle that is installed by reference to it.
+	 * PDE does not encode these locations, so the path is taken as is like the
+	 * framework does instead of parsing it as a URI.
+	 *
+	 * @param location
+	 *            the location of the bundle
+	 * @return the directory or <code>null</code> if the bundle is not installed
+	 *         from a directory
+	 */
+	public static File getFolder(String location) {
+		if (location == null || !location.startsWith(REFERENCE_FILE_PREFIX)) {
+			return null;
+		}
+		File file = new File(location.substring(REFERENCE_FILE_PREFIX.length()));
+		return file.isDirectory() ? file : null;
+	}
+
+	/**
+	 * Returns the latest modification time of the manifests and the class
+	 * files in the class folders of the given bundle.
+	 */
+	private long newestChange(Bundle bundle, File folder) {
+		long newest = 0;
+		for (String manifest : MANIFESTS) {
+			newest = Math.max(newest, new File(folder, manifest).lastModified());
+		}
+		for (File classFolder : getClassFolders(bundle, folder)) {
+			newest = Math.max(newest, newestClass(classFolder));
+		}
+		return newest;
+	}
+
+	private static long newestClass(File folder) {
+		long newest = 0;
+		File[] children = folder.listFiles();
+		if (children == null) {
+			return newest;
+		}
+		for (File child : children) {
+			if (child.isDirectory()) {
+				newest = Math.max(newest, newestClass(child));
+			} else if (child.getName().endsWith(".class")) { //$NON-NLS-1$
+				newest = Math.max(newest, child.lastModified());
+			}
+		}
+		return newest;
+	}
+
+}
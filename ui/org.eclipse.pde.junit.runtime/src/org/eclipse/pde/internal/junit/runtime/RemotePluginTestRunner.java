@@ -27,6 +27,7 @@ import java.util.function.Predicate;
 
 import org.eclipse.core.runtime.Platform;
 import org.eclipse.jdt.internal.junit.runner.RemoteTestRunner;
+import org.eclipse.jdt.internal.junit.runner.RerunRequest;
 import org.osgi.framework.Bundle;
 import org.osgi.framework.BundleContext;
 import org.osgi.framework.FrameworkUtil;
@@ -39,6 +40,7 @@ public class RemotePluginTestRunner extends RemoteTestRunner {
 
 	private String fTestPluginName;
 	private ClassLoader fLoaderClassLoader;
+	private DevBundleRefresher fBundleRefresher;
 
 	static class BundleClassLoader extends ClassLoader {
 		private final Bundle bundle;
@@ -68,10 +70,16 @@ public class RemotePluginTestRunner extends RemoteTestRunner {
 	 * to the ones supported by RemoteTestRunner:
 	 * <pre>
 	 * -testpluginname: the name of the plugin containing the tests.
+	 * -shardcount, -shardindex, -sharddurations: run only a share of the tests, see {@link TestShards}
 	  * </pre>
 	 * @see RemoteTestRunner
 	 */
 	public static void main(String[] args) {
+		try {
+			args = TestShards.select(args);
+		} catch (IOException e) {
+			throw new IllegalArgumentException("Can't read the test classes to shard.", e); //$NON-NLS-1$
+		}
 		RemotePluginTestRunner testRunner = new RemotePluginTestRunner();
 		testRunner.init(args);
 		ClassLoader currentTCCL = Thread.currentThread().getContextClassLoader();
@@ -185,6 +193,18 @@ public class RemotePluginTestRunner extends RemoteTestRunner {
 		if (fLoaderClassLoader == null) {
 			fLoaderClassLoader = getClass().getClassLoader();
 		}
+		if (indexOf(args, "-keepalive"::equalsIgnoreCase) > -1) { //$NON-NLS-1$
+			// the runtime serves reruns, pick up the workspace changes made in between
+			fBundleRefresher = new DevBundleRefresher();
+		}
+	}
+
+	@Override
+	public void rerunTest(RerunRequest r) {
+		if (fBundleRefresher != null) {
+			fBundleRefresher.refreshChanged();
+		}
+		super.rerunTest(r);
 	}
 
 	@Override
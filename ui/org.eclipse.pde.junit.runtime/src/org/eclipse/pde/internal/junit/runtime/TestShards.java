@@ -0,0 +1,188 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.internal.junit.runtime;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Properties;
+
+/**
+ * Selects the share of test classes one of several test runtimes has to run.
+ * <p>
+ * A test run can be split into shards by starting the same launch several
+ * times with the additional arguments:
+ * </p>
+ * <pre>
+ * -shardcount &lt;number of shards&gt;
+ * -shardindex &lt;index of this shard, starting at 0&gt;
+ * -sharddurations &lt;optional properties file mapping class names to milliseconds&gt;
+ * </pre>
+ * <p>
+ * The test classes given by <code>-classNames</code> or
+ * <code>-testNameFile</code> are distributed so that the shards take about
+ * the same time: classes are assigned longest first to the shard with the
+ * least total duration so far. Classes without a recorded duration count
+ * with the average of the known ones. Since every shard computes the same
+ * distribution from the same arguments, the shards need not communicate.
+ * </p>
+ */
+public class TestShards {
+
+	private static final String SHARD_COUNT = "-shardcount"; //$NON-NLS-1$
+	private static final String SHARD_INDEX = "-shardindex"; //$NON-NLS-1$
+	private static final String SHARD_DURATIONS = "-sharddurations"; //$NON-NLS-1$
+	private static final String CLASS_NAMES = "-classnames"; //$NON-NLS-1$
+	private static final String TEST_NAME_FILE = "-testnamefile"; //$NON-NLS-1$
+
+	private TestShards() {
+	}
+
+	/**
+	 * Returns the arguments to pass to the test runner. If the arguments
+	 * request a shard, the test classes are replaced by the ones of that shard
+	 * and the sharding arguments are removed, otherwise the arguments are
+	 * returned unchanged.
+	 */
+	public static String[] select(String[] args) throws IOException {
+		String count = RemotePluginTestRunner.getArgumentValue(args, SHARD_COUNT);
+		if (count == null) {
+			return args;
+		}
+		int shardCount = Integer.parseInt(count);
+		String index = RemotePluginTestRunner.getArgumentValue(args, SHARD_INDEX);
+		if (index == null) {
+			throw new IllegalArgumentException("Parameter -shardindex not specified."); //$NON-NLS-1$
+		}
+		int shardIndex = Integer.parseInt(index);
+		if (shardCount < 1 || shardIndex < 0 || shardIndex >= shardCount) {
+			throw new IllegalArgumentException("Invalid shard " + shardIndex + " of " + shardCount + '.'); //$NON-NLS-1$ //$NON-NLS-2$
+		}
+		String durationsFile = RemotePluginTestRunner.getArgumentValue(args, SHARD_DURATIONS);
+
+		List<String> remaining = new ArrayList<>();
+		List<String> classNames = new ArrayList<>();
+		boolean hasTests = false;
+		for (int i = 0; i < args.length; i++) {
+			String arg = args[i];
+			if (arg.equalsIgnoreCase(SHARD_COUNT) || arg.equalsIgnoreCase(SHARD_INDEX)
+					|| arg.equalsIgnoreCase(SHARD_DURATIONS)) {
+				i++;
+			} else if (arg.equalsIgnoreCase(CLASS_NAMES)) {
+				hasTests = true;
+				while (i + 1 < args.length && !args[i + 1].startsWith("-")) { //$NON-NLS-1$
+					classNames.add(args[++i]);
+				}
+			} else if (arg.equalsIgnoreCase(TEST_NAME_FILE) && i + 1 < args.length) {
+				hasTests = true;
+				for (String line : Files.readAllLines(Paths.get(args[++i]), StandardCharsets.UTF_8)) {
+					if (!line.trim().isEmpty()) {
+						classNames.add(line.trim());
+					}
+				}
+			} else {
+				remaining.add(arg);
+			}
+		}
+		if (!hasTests) {
+			throw new IllegalArgumentException("Sharding requires the test classes to be given by -classNames or -testNameFile."); //$NON-NLS-1$
+		}
+
+		List<String> shard = distribute(classNames, readDurations(durationsFile), shardCount).get(shardIndex);
+		Path file = Files.createTempFile("testShard", ".txt"); //$NON-NLS-1$ //$NON-NLS-2$
+		file.toFile().deleteOnExit();
+		Files.write(file, shard, StandardCharsets.UTF_8);
+		remaining.add("-testNameFile"); //$NON-NLS-1$
+		remaining.add(file.toString());
+		return remaining.toArray(new String[0]);
+	}
+
+	/**
+	 * Distributes the given test classes to the given number of shards as
+	 * described above, using the given durations in milliseconds by class
+	 * name.
+	 */
+	public static List<List<String>> distribute(List<String> classNames, Properties durations, int shardCount) {
+		long known = 0;
+		int knownCount = 0;
+		long[] duration = new long[classNames.size()];
+		for (int i = 0; i < duration.length; i++) {
+			duration[i] = parseDuration(durations.getProperty(classNames.get(i)));
+			if (duration[i] >= 0) {
+				known += duration[i];
+				knownCount++;
+			}
+		}
+		long unknown = knownCount > 0 ? Math.max(1, known / knownCount) : 1;
+		Integer[] order = new Integer[duration.length];
+		for (int i = 0; i < order.length; i++) {
+			if (duration[i] < 0) {
+				duration[i] = unknown;
+			}
+			order[i] = i;
+		}
+		// longest first, ties in the given order to keep the result stable
+		Arrays.sort(order, Comparator.comparingLong((Integer i) -> duration[i]).reversed()
+				.thenComparingInt(Integer::intValue));
+
+		List<List<String>> shards = new ArrayList<>(shardCount);
+		long[] totals = new long[shardCount];
+		for (int i = 0; i < shardCount; i++) {
+			shards.add(new ArrayList<>());
+		}
+		for (Integer i : order) {
+			int lightest = 0;
+			for (int s = 1; s < shardCount; s++) {
+				if (totals[s] < totals[lightest]) {
+					lightest = s;
+				}
+			}
+			shards.get(lightest).add(classNames.get(i));
+			totals[lightest] += duration[i];
+		}
+		return shards;
+	}
+
+	private static long parseDuration(String value) {
+		if (value != null) {
+			try {
+				return Long.parseLong(value.trim());
+			} catch (NumberFormatException e) {
+				// treat as unknown
+			}
+		}
+		return -1;
+	}
+
+	private static Properties readDurations(String fileName) {
+		Properties durations = new Properties();
+		if (fileName != null && new File(fileName).isFile()) {
+			try (InputStream stream = Files.newInputStream(Paths.get(fileName))) {
+				durations.load(stream);
+			} catch (IOException | IllegalArgumentException e) {
+				// without history all classes count the same
+			}
+		}
+		return durations;
+	}
+
+}
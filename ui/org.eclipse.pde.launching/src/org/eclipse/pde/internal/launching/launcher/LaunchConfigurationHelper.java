@@ -40,6 +40,7 @@ import org.eclipse.osgi.service.resolver.BundleDescription;
 import org.eclipse.pde.core.plugin.IPluginModelBase;
 import org.eclipse.pde.core.plugin.TargetPlatform;
 import org.eclipse.pde.internal.build.IPDEBuildConstants;
+import org.eclipse.pde.internal.core.ClasspathHelper;
 import org.eclipse.pde.internal.core.P2Utils;
 import org.eclipse.pde.internal.core.P2Utils.ProductInfo;
 import org.eclipse.pde.internal.core.PDECore;
@@ -535,6 +536,10 @@ public class LaunchConfigurationHelper {
 	}
 
 	public static void save(File file, Properties properties) {
+		if (ClasspathHelper.hasContent(file.toPath(), properties)) {
+			// rewriting an unchanged file would only touch its time stamp
+			return;
+		}
 		try (FileOutputStream stream = new FileOutputStream(file)) {
 			properties.store(stream, "Configuration File"); //$NON-NLS-1$
 			stream.flush();
@@ -21,8 +21,10 @@ import java.io.InputStream;
 import java.util.Arrays;
 import java.util.Dictionary;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Properties;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipFile;
 
@@ -33,7 +35,6 @@ import org.eclipse.debug.core.ILaunchConfiguration;
 import org.eclipse.jdt.launching.IVMInstall;
 import org.eclipse.jdt.launching.JavaRuntime;
 import org.eclipse.jdt.launching.environments.IExecutionEnvironment;
-import org.eclipse.osgi.service.resolver.State;
 import org.eclipse.pde.core.plugin.IPluginModelBase;
 import org.eclipse.pde.core.plugin.PluginRegistry;
 import org.eclipse.pde.internal.core.BundleValidationOperation;
@@ -41,6 +42,12 @@ import org.eclipse.pde.internal.core.TargetPlatformHelper;
 
 public class LaunchValidationOperation implements IWorkspaceRunnable {
 
+	/**
+	 * Java profiles read from the system bundle, keyed by its location, its
+	 * modification time and the execution environment id.
+	 */
+	private static final Map<String, Optional<Properties>> PROFILE_CACHE = new ConcurrentHashMap<>();
+
 	private BundleValidationOperation fOperation;
 	public final ILaunchConfiguration fLaunchConfiguration;
 	public final String fLaunchMode;
@@ -100,6 +107,12 @@ public class LaunchValidationOperation implements IWorkspaceRunnable {
 			return null;
 		}
 		File location = new File(model.getInstallLocation());
+		String key = location.getAbsolutePath() + '|' + location.lastModified() + '|' + ee;
+		return PROFILE_CACHE.computeIfAbsent(key, k -> Optional.ofNullable(readJavaProfileProperties(location, ee)))
+				.orElse(null);
+	}
+
+	private static Properties readJavaProfileProperties(File location, String ee) {
 		String filename = ee.replace('/', '_') + ".profile"; //$NON-NLS-1$
 		try {
 			// find the input stream to the profile properties file
@@ -139,11 +152,14 @@ public class LaunchValidationOperation implements IWorkspaceRunnable {
 	}
 
 	public boolean isEmpty() {
-		return fOperation.getState().getHighestBundleId() == -1;
+		return fOperation.isEmpty();
 	}
 
-	protected State getState() {
-		return fOperation.getState();
+	/**
+	 * @return whether a bundle with the given symbolic name was validated
+	 */
+	protected boolean containsBundle(String symbolicName) {
+		return fOperation.containsBundle(symbolicName);
 	}
 
 }
@@ -13,9 +13,15 @@
  *******************************************************************************/
 package org.eclipse.pde.spy.event.internal.core;
 
+import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Iterator;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Queue;
 import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.eclipse.e4.core.services.events.IEventBroker;
 import org.eclipse.e4.ui.internal.workbench.UIEventPublisher;
@@ -23,18 +29,36 @@ import org.eclipse.e4.ui.services.internal.events.EventBroker;
 import org.eclipse.e4.ui.workbench.UIEvents;
 import org.eclipse.pde.spy.event.internal.model.CapturedEvent;
 import org.eclipse.pde.spy.event.internal.model.CapturedEventFilter;
+import org.eclipse.pde.spy.event.internal.model.ItemToFilter;
+import org.osgi.service.event.Event;
 import org.osgi.service.event.EventHandler;
 
 @SuppressWarnings("restriction")
 public class EventMonitor {
 
 	public interface NewEventListener {
-		void newEvent(CapturedEvent event);
+		/**
+		 * Called when events were captured while none were pending, the events
+		 * are to be fetched with {@link EventMonitor#drainEvents()}. May be
+		 * called from any thread.
+		 */
+		void eventsCaptured();
 	}
 
+	/** The maximum number of captured events kept until they are drained. */
+	private static final int MAX_PENDING_EVENTS = 10_000;
+
 	private static Set<Integer> EVENT_HELPER_CLASSES = Set.of(UIEvents.class.getName().hashCode(),
 			UIEventPublisher.class.getName().hashCode());
 
+	private static final StackWalker STACK_WALKER = StackWalker.getInstance();
+
+	// the filtered items in the order they become known while handling an event
+	private static final Set<ItemToFilter> ELEMENT_ITEMS = EnumSet.of(ItemToFilter.Topic, ItemToFilter.ChangedElement);
+	private static final Set<ItemToFilter> PARAMETER_ITEMS = EnumSet.of(ItemToFilter.ParameterName,
+			ItemToFilter.ParameterValue, ItemToFilter.ParameterNameAndValue);
+	private static final Set<ItemToFilter> PUBLISHER_ITEMS = EnumSet.of(ItemToFilter.Publisher);
+
 	private Collection<CapturedEventFilter> filters;
 
 	private final IEventBroker eventBroker;
@@ -43,27 +67,13 @@ public class EventMonitor {
 
 	private CapturedEventFilterMatcher eventFilterMatcher;
 
-	private final EventHandler eventHandler = event -> {
-		if (listener == null) {
-			return;
-		}
+	private final Queue<CapturedEvent> pendingEvents = new ConcurrentLinkedQueue<>();
 
-		CapturedEvent capturedEvent = new CapturedEvent();
-		capturedEvent.setTopic(event.getTopic());
-		capturedEvent.setPublisherClassName(getPublisherClassName());
+	private final AtomicInteger pendingCount = new AtomicInteger();
 
-		for (String propertyName : event.getPropertyNames()) {
-			Object value = event.getProperty(propertyName);
-			capturedEvent.addParameter(propertyName, value);
-			if (value != null && UIEvents.EventTags.ELEMENT.equals(propertyName)) {
-				capturedEvent.setChangedElementClassName(value.getClass().getName());
-			}
-		}
+	private final AtomicBoolean drainRequested = new AtomicBoolean();
 
-		if (shouldBeCaptured(capturedEvent)) {
-			listener.newEvent(capturedEvent);
-		}
-	};
+	private final EventHandler eventHandler = this::handleEvent;
 
 	public EventMonitor(IEventBroker eventBroker) {
 		this.eventBroker = eventBroker;
@@ -82,11 +92,67 @@ public class EventMonitor {
 		this.listener = listener;
 	}
 
-	private boolean shouldBeCaptured(CapturedEvent event) {
+	/**
+	 * Returns and removes the events captured since the last call. If more than
+	 * {@value #MAX_PENDING_EVENTS} events were captured in between, only the
+	 * most recent ones are returned.
+	 */
+	public List<CapturedEvent> drainEvents() {
+		drainRequested.set(false);
+		List<CapturedEvent> events = new ArrayList<>();
+		CapturedEvent event;
+		while ((event = pendingEvents.poll()) != null) {
+			pendingCount.decrementAndGet();
+			events.add(event);
+		}
+		return events;
+	}
+
+	private void handleEvent(Event event) {
+		NewEventListener currentListener = listener;
+		if (currentListener == null) {
+			return;
+		}
+
+		// evaluate the filters as soon as the values they test are known, so
+		// that rejected events cost as little as possible
+		CapturedEvent capturedEvent = new CapturedEvent();
+		capturedEvent.setTopic(event.getTopic());
+		Object element = event.getProperty(UIEvents.EventTags.ELEMENT);
+		if (element != null) {
+			capturedEvent.setChangedElementClassName(element.getClass().getName());
+		}
+		if (!shouldBeCaptured(capturedEvent, ELEMENT_ITEMS)) {
+			return;
+		}
+
+		for (String propertyName : event.getPropertyNames()) {
+			capturedEvent.addParameter(propertyName, event.getProperty(propertyName));
+		}
+		if (!shouldBeCaptured(capturedEvent, PARAMETER_ITEMS)) {
+			return;
+		}
+
+		capturedEvent.setPublisherClassName(getPublisherClassName());
+		if (!shouldBeCaptured(capturedEvent, PUBLISHER_ITEMS)) {
+			return;
+		}
+
+		pendingEvents.add(capturedEvent);
+		if (pendingCount.incrementAndGet() > MAX_PENDING_EVENTS && pendingEvents.poll() != null) {
+			// drop the oldest event
+			pendingCount.decrementAndGet();
+		}
+		if (drainRequested.compareAndSet(false, true)) {
+			currentListener.eventsCaptured();
+		}
+	}
+
+	private boolean shouldBeCaptured(CapturedEvent event, Set<ItemToFilter> items) {
 		if (filters != null) {
-			Iterator<CapturedEventFilter> iter = filters.iterator();
-			while (iter.hasNext()) {
-				if (!getEventFilterMatcher().matches(event, iter.next())) {
+			for (CapturedEventFilter filter : filters) {
+				if (items.contains(filter.getItemToFilter())
+						&& !getEventFilterMatcher().matches(event, filter)) {
 					return false;
 				}
 			}
@@ -94,19 +160,15 @@ public class EventMonitor {
 		return true;
 	}
 
-	private String getPublisherClassName() {
-		StackTraceElement[] items = Thread.currentThread().getStackTrace();
-		boolean foundEventBroker = false;
-
-		for (int i = 0; i < items.length; i++) {
-			String clsName = items[i].getClassName();
-			if (!foundEventBroker && clsName.equals(EventBroker.class.getName())) {
-				foundEventBroker = true;
-			} else if (foundEventBroker && !EVENT_HELPER_CLASSES.contains(clsName.hashCode())) {
-				return String.format("%s (%s:%d)", clsName, items[i].getMethodName(), items[i].getLineNumber()); //$NON-NLS-1$
-			}
-		}
-		return ""; //$NON-NLS-1$
+	private static String getPublisherClassName() {
+		return STACK_WALKER.walk(frames -> frames //
+				.dropWhile(frame -> !frame.getClassName().equals(EventBroker.class.getName())) //
+				.skip(1) //
+				.filter(frame -> !EVENT_HELPER_CLASSES.contains(frame.getClassName().hashCode())) //
+				.findFirst() //
+				.map(frame -> String.format("%s (%s:%d)", frame.getClassName(), frame.getMethodName(), //$NON-NLS-1$
+						frame.getLineNumber()))
+				.orElse("")); //$NON-NLS-1$
 	}
 
 	private CapturedEventFilterMatcher getEventFilterMatcher() {
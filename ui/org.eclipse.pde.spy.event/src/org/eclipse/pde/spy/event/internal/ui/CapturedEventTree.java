@@ -14,6 +14,7 @@
 package org.eclipse.pde.spy.event.internal.ui;
 
 import java.util.ArrayList;
+import java.util.List;
 
 import org.eclipse.core.databinding.beans.typed.PojoProperties;
 import org.eclipse.core.databinding.observable.IObservable;
@@ -353,6 +354,12 @@ public class CapturedEventTree extends TreeViewer {
 		capturedEvents.add(event);
 	}
 
+	public void addEvents(List<CapturedEvent> events) {
+		if (!events.isEmpty()) {
+			capturedEvents.addAll(events);
+		}
+	}
+
 	public void setListener(ICapturedEventTreeListener listener) {
 		this.listener = listener;
 	}
@@ -24,7 +24,6 @@ import org.eclipse.e4.core.di.annotations.Optional;
 import org.eclipse.e4.core.services.events.IEventBroker;
 import org.eclipse.e4.ui.model.application.MApplication;
 import org.eclipse.pde.spy.event.internal.core.EventMonitor;
-import org.eclipse.pde.spy.event.internal.model.CapturedEvent;
 import org.eclipse.pde.spy.event.internal.model.CapturedEventFilter;
 import org.eclipse.pde.spy.event.internal.util.JDTUtils;
 import org.eclipse.pde.spy.event.internal.util.LoggerWrapper;
@@ -169,6 +168,9 @@ public class EventSpyPart implements EventMonitor.NewEventListener {
 		if (eventMonitor == null) {
 			eventMonitor = new EventMonitor(eventBroker);
 			eventMonitor.setNewEventListener(this);
+		} else {
+			// discard the events still pending from the last capture
+			eventMonitor.drainEvents();
 		}
 		eventMonitor.start(capturedEventFilters.getBaseTopic(), capturedEventFilters.getFilters());
 		// getShell().setText(DIALOG_TITLE + " - capturing...");
@@ -182,8 +184,13 @@ public class EventSpyPart implements EventMonitor.NewEventListener {
 	}
 
 	@Override
-	public void newEvent(CapturedEvent event) {
-		capturedEventTree.addEvent(event);
+	public void eventsCaptured() {
+		// add the events in batches to keep up with busy event producers
+		outer.getDisplay().asyncExec(() -> {
+			if (!outer.isDisposed() && eventMonitor != null) {
+				capturedEventTree.addEvents(eventMonitor.drainEvents());
+			}
+		});
 	}
 
 	@SuppressWarnings("restriction")
@@ -0,0 +1,149 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.core.tests.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.File;
+import java.util.List;
+
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.equinox.p2.core.IProvisioningAgent;
+import org.eclipse.equinox.p2.core.IProvisioningAgentProvider;
+import org.eclipse.equinox.p2.engine.IProfile;
+import org.eclipse.equinox.p2.engine.IProfileRegistry;
+import org.eclipse.equinox.p2.metadata.IInstallableUnit;
+import org.eclipse.equinox.p2.query.QueryUtil;
+import org.eclipse.osgi.service.resolver.VersionRange;
+import org.eclipse.pde.core.plugin.IPluginModelBase;
+import org.eclipse.pde.core.plugin.PluginRegistry;
+import org.eclipse.pde.core.project.IRequiredBundleDescription;
+import org.eclipse.pde.internal.core.P2Utils;
+import org.eclipse.pde.internal.core.PDECore;
+import org.eclipse.pde.ui.tests.runtime.TestUtils;
+import org.eclipse.pde.ui.tests.util.ProjectUtils;
+import org.junit.ClassRule;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.junit.rules.TestRule;
+
+public class P2UtilsTest {
+
+	@ClassRule
+	public static final TestRule CLEAR_WORKSPACE = ProjectUtils.DELETE_ALL_WORKSPACE_PROJECTS_BEFORE_AND_AFTER;
+
+	private static final String PROFILE_ID = "p2.utils.test";
+	private static final String DEPENDENCY = "p2.utils.dependency";
+	private static final String CONSUMER = "p2.utils.consumer";
+
+	@Rule
+	public final TestRule deleteCreatedTestProjectsAfter = ProjectUtils.DELETE_CREATED_WORKSPACE_PROJECTS_AFTER;
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	@Test
+	public void testProfileIsUpdatedWithChangedRequirements() throws Exception {
+		IProject dependency = createProject(DEPENDENCY);
+		IProject consumer = createProject(CONSUMER);
+		File p2DataArea = folder.newFolder("p2");
+
+		P2Utils.createProfile(PROFILE_ID, p2DataArea, List.of(List.of(findModel(dependency), findModel(consumer))));
+		assertThat(requiresDependency(p2DataArea)).isFalse();
+
+		// same version, but a new requirement
+		createProject(CONSUMER, DEPENDENCY);
+		P2Utils.createProfile(PROFILE_ID, p2DataArea, List.of(List.of(findModel(dependency), findModel(consumer))));
+		assertThat(requiresDependency(p2DataArea)).isTrue();
+
+		// and back again
+		createProject(CONSUMER);
+		P2Utils.createProfile(PROFILE_ID, p2DataArea, List.of(List.of(findModel(dependency), findModel(consumer))));
+		assertThat(requiresDependency(p2DataArea)).isFalse();
+	}
+
+	@Test
+	public void testUnitsAreAddedAndRemoved() throws Exception {
+		IProject dependency = createProject(DEPENDENCY);
+		IProject consumer = createProject(CONSUMER);
+		File p2DataArea = folder.newFolder("p2");
+
+		P2Utils.createProfile(PROFILE_ID, p2DataArea, List.of(List.of(findModel(dependency))));
+		assertThat(getUnitIds(p2DataArea)).containsExactly(DEPENDENCY);
+
+		P2Utils.createProfile(PROFILE_ID, p2DataArea, List.of(List.of(findModel(dependency), findModel(consumer))));
+		assertThat(getUnitIds(p2DataArea)).containsExactlyInAnyOrder(DEPENDENCY, CONSUMER);
+
+		P2Utils.createProfile(PROFILE_ID, p2DataArea, List.of(List.of(findModel(consumer))));
+		assertThat(getUnitIds(p2DataArea)).containsExactly(CONSUMER);
+	}
+
+	private static boolean requiresDependency(File p2DataArea) throws CoreException {
+		IProvisioningAgent agent = createAgent(p2DataArea);
+		try {
+			IProfile profile = getProfile(agent);
+			IInstallableUnit dependency = getUnit(profile, DEPENDENCY);
+			IInstallableUnit consumer = getUnit(profile, CONSUMER);
+			return consumer.getRequirements().stream().anyMatch(r -> r.isMatch(dependency));
+		} finally {
+			agent.stop();
+		}
+	}
+
+	private static List<String> getUnitIds(File p2DataArea) throws CoreException {
+		IProvisioningAgent agent = createAgent(p2DataArea);
+		try {
+			return getProfile(agent).query(QueryUtil.ALL_UNITS, null).stream().map(IInstallableUnit::getId)
+					.toList();
+		} finally {
+			agent.stop();
+		}
+	}
+
+	private static IProvisioningAgent createAgent(File p2DataArea) throws CoreException {
+		IProvisioningAgentProvider provider = PDECore.getDefault().acquireService(IProvisioningAgentProvider.class);
+		return provider.createAgent(p2DataArea.toURI());
+	}
+
+	private static IProfile getProfile(IProvisioningAgent agent) {
+		IProfileRegistry registry = agent.getService(IProfileRegistry.class);
+		IProfile profile = registry.getProfile(PROFILE_ID);
+		assertThat(profile).isNotNull();
+		return profile;
+	}
+
+	private static IInstallableUnit getUnit(IProfile profile, String id) {
+		return profile.query(QueryUtil.createIUQuery(id), null).stream().findFirst().orElseThrow();
+	}
+
+	private static IProject createProject(String id, String... requiredBundles) throws CoreException {
+		IProject project = ProjectUtils.createPluginProject(id, id, "1.0.0.qualifier", (description, service) -> {
+			IRequiredBundleDescription[] required = new IRequiredBundleDescription[requiredBundles.length];
+			for (int i = 0; i < requiredBundles.length; i++) {
+				required[i] = service.newRequiredBundle(requiredBundles[i], (VersionRange) null, false, false);
+			}
+			description.setRequiredBundles(required.length == 0 ? null : required);
+		});
+		TestUtils.waitForJobs(P2UtilsTest.class.getSimpleName(), 100, 10000);
+		return project;
+	}
+
+	private static IPluginModelBase findModel(IProject project) {
+		IPluginModelBase model = PluginRegistry.findModel(project);
+		assertThat(model).isNotNull();
+		return model;
+	}
+
+}
@@ -0,0 +1,217 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.core.tests.internal;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import javax.xml.parsers.DocumentBuilderFactory;
+
+import org.eclipse.pde.core.ISourceObject;
+import org.eclipse.pde.core.plugin.IPluginAttribute;
+import org.eclipse.pde.core.plugin.IPluginElement;
+import org.eclipse.pde.core.plugin.IPluginExtension;
+import org.eclipse.pde.core.plugin.IPluginExtensionPoint;
+import org.eclipse.pde.core.plugin.IPluginObject;
+import org.eclipse.pde.core.plugin.IPluginParent;
+import org.eclipse.pde.internal.core.plugin.AbbreviatedPluginHandler;
+import org.eclipse.pde.internal.core.plugin.ExternalPluginModel;
+import org.junit.Test;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.NamedNodeMap;
+import org.w3c.dom.Node;
+
+/**
+ * Tests the extensions created while parsing the plugin.xml of an external
+ * plug-in against a DOM of the same file, built the way the handler built it
+ * before: comments dropped and CDATA sections turned into text.
+ */
+public class PluginHandlerTest {
+
+	private static final String PRODUCTS = "org.eclipse.core.runtime.products";
+
+	private static final String PLUGIN_XML = """
+			<?xml version="1.0" encoding="UTF-8"?>
+			<?eclipse version="3.4"?>
+			<plugin>
+			   <extension-point id="point" name="Point" schema="schema/point.exsd"/>
+			   <extension id="first" name="First" point="org.eclipse.core.runtime.products">
+			      <product name="Product" application="app">
+			         <property name="a" value="1"/>
+			         text before <!-- comment --> and after
+			         <description>one<!-- comment -->two</description>
+			         <description><![CDATA[cdata <text>]]> and more</description>
+			         <nested>first<child/>last</nested>
+			         <empty>   </empty>
+			      </product>
+			   </extension>
+			   <extension point="org.example.other">
+			      <element attr="value">text</element>
+			   </extension>
+			</plugin>
+			""";
+
+	@Test
+	public void testSameAsDOM() throws Exception {
+		ExternalPluginModel model = new ExternalPluginModel();
+		model.load(stream(), false);
+
+		IPluginExtension[] extensions = model.getPluginBase().getExtensions();
+		List<Element> expected = getExtensionElements(parseDOM(), "extension");
+		assertEquals(expected.size(), extensions.length);
+		for (int i = 0; i < extensions.length; i++) {
+			assertEquals(expected.get(i).getAttribute("point"), extensions[i].getPoint());
+			assertSameChildren(expected.get(i), extensions[i], true);
+		}
+
+		IPluginExtensionPoint[] points = model.getPluginBase().getExtensionPoints();
+		assertEquals(1, points.length);
+		assertEquals("point", points[0].getId());
+		assertEquals("schema/point.exsd", points[0].getSchema());
+	}
+
+	@Test
+	public void testText() throws Exception {
+		ExternalPluginModel model = new ExternalPluginModel();
+		model.load(stream(), false);
+
+		IPluginElement product = (IPluginElement) model.getPluginBase().getExtensions()[0].getChildren()[0];
+		IPluginObject[] children = product.getChildren();
+		assertEquals("text before  and after", product.getText());
+		assertEquals("onetwo", ((IPluginElement) children[1]).getText());
+		assertEquals("cdata <text> and more", ((IPluginElement) children[2]).getText());
+		assertEquals("last", ((IPluginElement) children[3]).getText());
+		assertNull(((IPluginElement) children[4]).getText());
+	}
+
+	@Test
+	public void testLineNumbers() throws Exception {
+		ExternalPluginModel model = new ExternalPluginModel();
+		model.load(stream(), false);
+
+		IPluginExtension[] extensions = model.getPluginBase().getExtensions();
+		assertEquals(5, ((ISourceObject) extensions[0]).getStartLine());
+		assertEquals(15, ((ISourceObject) extensions[1]).getStartLine());
+		assertEquals(4, ((ISourceObject) model.getPluginBase().getExtensionPoints()[0]).getStartLine());
+	}
+
+	@Test
+	public void testAbbreviated() throws Exception {
+		ExternalPluginModel model = new ExternalPluginModel();
+		model.load(stream(), false, new AbbreviatedPluginHandler(new String[] { PRODUCTS }));
+
+		IPluginExtension[] extensions = model.getPluginBase().getExtensions();
+		assertEquals(2, extensions.length);
+		// the content of interesting extensions is loaded without text
+		assertEquals(PRODUCTS, extensions[0].getPoint());
+		assertSameChildren(getExtensionElements(parseDOM(), "extension").get(0), extensions[0], false);
+		// other extensions are loaded without content
+		assertEquals("org.example.other", extensions[1].getPoint());
+		assertEquals(0, extensions[1].getChildCount());
+	}
+
+	private static void assertSameChildren(Element expected, IPluginParent actual, boolean withText) {
+		List<Element> children = getChildElements(expected);
+		IPluginObject[] actualChildren = actual.getChildren();
+		assertEquals(children.size(), actualChildren.length);
+		for (int i = 0; i < actualChildren.length; i++) {
+			Element child = children.get(i);
+			IPluginElement actualChild = (IPluginElement) actualChildren[i];
+			assertEquals(child.getNodeName(), actualChild.getName());
+			assertArrayEquals(getAttributes(child), getAttributes(actualChild));
+			assertEquals(withText ? getText(child) : null, actualChild.getText());
+			assertSameChildren(child, actualChild, withText);
+		}
+	}
+
+	private static String[] getAttributes(Element element) {
+		NamedNodeMap attributes = element.getAttributes();
+		String[] result = new String[attributes.getLength()];
+		for (int i = 0; i < result.length; i++) {
+			result[i] = attributes.item(i).getNodeName() + '=' + attributes.item(i).getNodeValue();
+		}
+		Arrays.sort(result);
+		return result;
+	}
+
+	private static String[] getAttributes(IPluginElement element) {
+		IPluginAttribute[] attributes = element.getAttributes();
+		String[] result = new String[attributes.length];
+		for (int i = 0; i < result.length; i++) {
+			result[i] = attributes[i].getName() + '=' + attributes[i].getValue();
+		}
+		Arrays.sort(result);
+		return result;
+	}
+
+	/**
+	 * The text the DOM based loading of an element used: the last non-empty
+	 * text node.
+	 */
+	private static String getText(Element element) {
+		String text = null;
+		for (Node child = element.getFirstChild(); child != null; child = child.getNextSibling()) {
+			if (child.getNodeType() == Node.TEXT_NODE) {
+				String value = child.getNodeValue().trim();
+				if (!value.isEmpty()) {
+					text = value;
+				}
+			}
+		}
+		return text;
+	}
+
+	private static List<Element> getExtensionElements(Document document, String name) {
+		List<Element> result = new ArrayList<>();
+		for (Element child : getChildElements(document.getDocumentElement())) {
+			if (name.equals(child.getNodeName())) {
+				result.add(child);
+			}
+		}
+		return result;
+	}
+
+	private static List<Element> getChildElements(Element element) {
+		List<Element> result = new ArrayList<>();
+		for (Node child = element.getFirstChild(); child != null; child = child.getNextSibling()) {
+			if (child.getNodeType() == Node.ELEMENT_NODE) {
+				result.add((Element) child);
+			}
+		}
+		return result;
+	}
+
+	private static Document parseDOM() throws Exception {
+		DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
+		factory.setCoalescing(true);
+		factory.setIgnoringComments(true);
+		Document document = factory.newDocumentBuilder().parse(stream());
+		document.normalizeDocument();
+		return document;
+	}
+
+	private static InputStream stream() {
+		return new ByteArrayInputStream(PLUGIN_XML.getBytes(StandardCharsets.UTF_8));
+	}
+
+}
@@ -0,0 +1,124 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.core.tests.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.pde.core.project.IRequiredBundleDescription;
+import org.eclipse.pde.internal.core.search.PluginSearchIndex;
+import org.eclipse.pde.internal.core.search.PluginSearchInput;
+import org.eclipse.pde.internal.core.search.PluginSearchOperation;
+import org.eclipse.pde.internal.core.search.PluginSearchScope;
+import org.eclipse.pde.ui.tests.runtime.TestUtils;
+import org.eclipse.pde.ui.tests.util.ProjectUtils;
+import org.junit.BeforeClass;
+import org.junit.ClassRule;
+import org.junit.Test;
+import org.junit.rules.TestRule;
+import org.osgi.framework.VersionRange;
+
+/**
+ * Tests that searching with the {@link PluginSearchIndex} finds the same
+ * elements as walking every model in scope.
+ */
+public class PluginSearchIndexTest {
+
+	@ClassRule
+	public static final TestRule CLEAR_WORKSPACE = ProjectUtils.DELETE_ALL_WORKSPACE_PROJECTS_BEFORE_AND_AFTER;
+
+	private static final String HOST = "search.index.host";
+	private static final String CONSUMER = "search.index.consumer";
+	private static final String FRAGMENT = "search.index.host.fragment";
+
+	@BeforeClass
+	public static void createProjects() throws CoreException {
+		ProjectUtils.createPluginProject(HOST, HOST, "1.0.0");
+		ProjectUtils.createPluginProject(CONSUMER, CONSUMER, "1.0.0", (description, service) -> {
+			description.setRequiredBundles(new IRequiredBundleDescription[] {
+					service.newRequiredBundle(HOST, (VersionRange) null, false, false),
+					service.newRequiredBundle("org.eclipse.core.runtime", (VersionRange) null, false, false) });
+		});
+		ProjectUtils.createPluginProject(FRAGMENT, FRAGMENT, "1.0.0",
+				(description, service) -> description.setHost(service.newHost(HOST, (VersionRange) null)));
+		TestUtils.waitForJobs(PluginSearchIndexTest.class.getSimpleName(), 100, 10000);
+	}
+
+	@Test
+	public void testPlugins() {
+		// the fragment host and the import of the consumer
+		assertThat(assertSameResults(PluginSearchInput.ELEMENT_PLUGIN, PluginSearchInput.LIMIT_REFERENCES, HOST,
+				true)).hasSize(2);
+		for (String pattern : List.of(HOST, "search.index", "search.index.*", "*.host", "search.*.host*",
+				"SEARCH.INDEX.HOST", "org.eclipse.core.runtime", "org.eclipse.core.*", "*")) {
+			for (int limit : List.of(PluginSearchInput.LIMIT_DECLARATIONS, PluginSearchInput.LIMIT_REFERENCES,
+					PluginSearchInput.LIMIT_ALL)) {
+				assertSameResults(PluginSearchInput.ELEMENT_PLUGIN, limit, pattern, false);
+			}
+			assertSameResults(PluginSearchInput.ELEMENT_PLUGIN, PluginSearchInput.LIMIT_ALL, pattern, true);
+		}
+	}
+
+	@Test
+	public void testFragments() {
+		assertThat(assertSameResults(PluginSearchInput.ELEMENT_FRAGMENT, PluginSearchInput.LIMIT_DECLARATIONS,
+				"search.index.*", true)).hasSize(1);
+		for (String pattern : List.of(FRAGMENT, HOST, "search.index.host", "search.index.host.*", "*fragment",
+				"*.FRAGMENT", "*")) {
+			assertSameResults(PluginSearchInput.ELEMENT_FRAGMENT, PluginSearchInput.LIMIT_DECLARATIONS, pattern,
+					false);
+			assertSameResults(PluginSearchInput.ELEMENT_FRAGMENT, PluginSearchInput.LIMIT_DECLARATIONS, pattern,
+					true);
+		}
+	}
+
+	@Test
+	public void testExtensionPoints() {
+		for (String pattern : List.of("org.eclipse.core.runtime.applications", "org.eclipse.core.runtime",
+				"org.eclipse.core.runtime.*", "*.applications", "org.eclipse.*.adapters", "*")) {
+			for (int limit : List.of(PluginSearchInput.LIMIT_DECLARATIONS, PluginSearchInput.LIMIT_REFERENCES,
+					PluginSearchInput.LIMIT_ALL)) {
+				assertSameResults(PluginSearchInput.ELEMENT_EXTENSION_POINT, limit, pattern, false);
+			}
+		}
+	}
+
+	private static List<Object> assertSameResults(int element, int limit, String pattern, boolean caseSensitive) {
+		PluginSearchInput input = new PluginSearchInput();
+		input.setSearchElement(element);
+		input.setSearchLimit(limit);
+		input.setSearchString(pattern);
+		input.setCaseSensitive(caseSensitive);
+		input.setSearchScope(new PluginSearchScope(PluginSearchScope.SCOPE_WORKSPACE,
+				PluginSearchScope.EXTERNAL_SCOPE_ALL, null));
+
+		List<Object> indexed = new ArrayList<>();
+		new PluginSearchOperation(input, indexed::add).execute(null);
+		List<Object> unindexed = new ArrayList<>();
+		new PluginSearchOperation(input, unindexed::add) {
+			@Override
+			protected PluginSearchIndex getSearchIndex() {
+				return null;
+			}
+		}.execute(null);
+
+		assertThat(indexed).as("%s of %s (limit %s, case sensitive %s)", pattern, element, limit, caseSensitive)
+				.containsExactlyElementsOf(unindexed);
+		return indexed;
+	}
+
+}
@@ -0,0 +1,81 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.core.tests.internal.classpath;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IProject;
+import org.eclipse.jdt.core.IClasspathEntry;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.JavaCore;
+import org.eclipse.pde.core.plugin.IPluginModelBase;
+import org.eclipse.pde.core.plugin.PluginRegistry;
+import org.eclipse.pde.internal.core.ClasspathHelper;
+import org.eclipse.pde.internal.core.project.PDEProject;
+import org.eclipse.pde.ui.tests.runtime.TestUtils;
+import org.eclipse.pde.ui.tests.util.ProjectUtils;
+import org.junit.ClassRule;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TestRule;
+
+/**
+ * Tests that the cached dev classpath of a workspace plug-in follows the
+ * changes of its project.
+ */
+public class DevClasspathCacheTest {
+
+	@ClassRule
+	public static final TestRule CLEAR_WORKSPACE = ProjectUtils.DELETE_ALL_WORKSPACE_PROJECTS_BEFORE_AND_AFTER;
+	@Rule
+	public final TestRule deleteCreatedTestProjectsAfter = ProjectUtils.DELETE_CREATED_WORKSPACE_PROJECTS_AFTER;
+
+	private static final String BUNDLE = "devclasspath.cache";
+
+	@Test
+	public void testLibraryAddedAndRemoved() throws Exception {
+		IJavaProject javaProject = ProjectUtils.createPluginProject(BUNDLE, null);
+		IProject project = javaProject.getProject();
+		// without a build.properties all classpath entries are part of the dev
+		// classpath
+		PDEProject.getBuildProperties(project).delete(true, null);
+		IFile library = project.getFile("lib.jar");
+		IClasspathEntry[] entries = Arrays.copyOf(javaProject.getRawClasspath(),
+				javaProject.getRawClasspath().length + 1);
+		entries[entries.length - 1] = JavaCore.newLibraryEntry(library.getFullPath(), null, null);
+		javaProject.setRawClasspath(entries, null);
+		TestUtils.waitForJobs(getClass().getSimpleName(), 100, 10000);
+
+		assertThat(getDevClasspath()).isEqualTo(ProjectUtils.BIN_FOLDER);
+
+		library.create(new ByteArrayInputStream(new byte[0]), true, null);
+		assertThat(getDevClasspath()).isEqualTo(ProjectUtils.BIN_FOLDER + ",lib.jar");
+
+		library.delete(true, null);
+		assertThat(getDevClasspath()).isEqualTo(ProjectUtils.BIN_FOLDER);
+	}
+
+	private static String getDevClasspath() {
+		IPluginModelBase model = PluginRegistry.findModel(BUNDLE);
+		assertThat(model).isNotNull();
+		return ClasspathHelper.getDevEntriesProperties(Map.of(BUNDLE, List.of(model)), false).getProperty(BUNDLE);
+	}
+
+}
@@ -0,0 +1,148 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.core.tests.internal.core.builders;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import java.util.Arrays;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.osgi.service.resolver.VersionRange;
+import org.eclipse.pde.core.plugin.IPlugin;
+import org.eclipse.pde.core.plugin.IPluginBase;
+import org.eclipse.pde.core.plugin.IPluginModelBase;
+import org.eclipse.pde.core.plugin.PluginRegistry;
+import org.eclipse.pde.core.project.IRequiredBundleDescription;
+import org.eclipse.pde.internal.core.builders.DependencyLoop;
+import org.eclipse.pde.internal.core.builders.DependencyLoopFinder;
+import org.eclipse.pde.ui.tests.runtime.TestUtils;
+import org.eclipse.pde.ui.tests.util.ProjectUtils;
+import org.junit.ClassRule;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TestRule;
+
+public class DependencyLoopFinderTest {
+
+	@ClassRule
+	public static final TestRule CLEAR_WORKSPACE = ProjectUtils.DELETE_ALL_WORKSPACE_PROJECTS_BEFORE_AND_AFTER;
+	@Rule
+	public final TestRule deleteCreatedTestProjectsAfter = ProjectUtils.DELETE_CREATED_WORKSPACE_PROJECTS_AFTER;
+
+	@Test
+	public void testNoLoop() throws Exception {
+		IPlugin root = createPlugin("loop.root", "loop.a", "loop.b");
+		createPlugin("loop.a", "loop.b");
+		createPlugin("loop.b");
+
+		assertEquals(0, DependencyLoopFinder.findLoops(findPlugin(root)).length);
+	}
+
+	@Test
+	public void testSelfImport() throws Exception {
+		IPlugin root = createPlugin("loop.root", "loop.root");
+
+		DependencyLoop[] loops = DependencyLoopFinder.findLoops(findPlugin(root));
+		assertEquals(1, loops.length);
+		assertMembers(loops[0], "loop.root");
+	}
+
+	@Test
+	public void testTwoLoopsThroughSameDependency() throws Exception {
+		// root -> a -> root and root -> a -> b -> root
+		IPlugin root = createPlugin("loop.root", "loop.a");
+		createPlugin("loop.a", "loop.b", "loop.root");
+		createPlugin("loop.b", "loop.root");
+
+		// only the shortest loop is reported for the dependency
+		DependencyLoop[] loops = DependencyLoopFinder.findLoops(findPlugin(root));
+		assertEquals(1, loops.length);
+		assertMembers(loops[0], "loop.root", "loop.a");
+	}
+
+	@Test
+	public void testLoopsThroughDifferentDependencies() throws Exception {
+		IPlugin root = createPlugin("loop.root", "loop.a", "loop.b");
+		createPlugin("loop.a", "loop.c");
+		createPlugin("loop.b", "loop.c");
+		createPlugin("loop.c", "loop.root");
+
+		DependencyLoop[] loops = DependencyLoopFinder.findLoops(findPlugin(root));
+		assertEquals(2, loops.length);
+		assertMembers(loops[0], "loop.root", "loop.a", "loop.c");
+		assertMembers(loops[1], "loop.root", "loop.b", "loop.c");
+	}
+
+	@Test
+	public void testOnlyCandidates() throws Exception {
+		IPlugin root = createPlugin("loop.root", "loop.a");
+		createPlugin("loop.a", "loop.root");
+		IPlugin candidate = createPlugin("loop.candidate", "loop.root");
+
+		IPlugin[] candidates = new IPlugin[] { findPlugin(candidate) };
+		DependencyLoop[] loops = DependencyLoopFinder.findLoops(findPlugin(root), candidates, true);
+		assertEquals(1, loops.length);
+		assertMembers(loops[0], "loop.root", "loop.candidate");
+
+		// the imports of the root are considered as well
+		loops = DependencyLoopFinder.findLoops(findPlugin(root), candidates);
+		assertEquals(2, loops.length);
+		assertMembers(loops[0], "loop.root", "loop.a");
+		assertMembers(loops[1], "loop.root", "loop.candidate");
+	}
+
+	@Test
+	public void testUnresolvableImports() throws Exception {
+		IPlugin root = createPlugin("loop.root", "loop.missing", "loop.a");
+		createPlugin("loop.a", "loop.missing", "loop.root");
+
+		DependencyLoop[] loops = DependencyLoopFinder.findLoops(findPlugin(root));
+		assertEquals(1, loops.length);
+		assertMembers(loops[0], "loop.root", "loop.a");
+	}
+
+	private static IPlugin createPlugin(String id, String... requiredBundles) throws CoreException {
+		ProjectUtils.createPluginProject(id, id, "1.0.0", (description, service) -> {
+			if (requiredBundles.length == 0) {
+				return;
+			}
+			IRequiredBundleDescription[] required = Arrays.stream(requiredBundles)
+					.map(name -> service.newRequiredBundle(name, (VersionRange) null, false, false))
+					.toArray(IRequiredBundleDescription[]::new);
+			description.setRequiredBundles(required);
+		});
+		TestUtils.waitForJobs(DependencyLoopFinderTest.class.getSimpleName(), 100, 10000);
+		return findPlugin(id);
+	}
+
+	/**
+	 * Looks up the plug-in again as its model changes when plug-ins it depends
+	 * on are added to the workspace.
+	 */
+	private static IPlugin findPlugin(IPlugin plugin) {
+		return findPlugin(plugin.getId());
+	}
+
+	private static IPlugin findPlugin(String id) {
+		IPluginModelBase model = PluginRegistry.findModel(id);
+		return (IPlugin) model.getPluginBase();
+	}
+
+	private static void assertMembers(DependencyLoop loop, String... ids) {
+		String[] members = Arrays.stream(loop.getMembers()).map(IPluginBase::getId).toArray(String[]::new);
+		assertArrayEquals(ids, members);
+	}
+
+}
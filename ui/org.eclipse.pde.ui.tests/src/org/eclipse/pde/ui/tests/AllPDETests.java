@@ -15,13 +15,16 @@ package org.eclipse.pde.ui.tests;
 
 import org.eclipse.pde.core.tests.internal.AllPDECoreTests;
 import org.eclipse.pde.core.tests.internal.classpath.ClasspathResolutionTest;
+import org.eclipse.pde.core.tests.internal.classpath.DevClasspathCacheTest;
 import org.eclipse.pde.core.tests.internal.core.builders.BundleErrorReporterTest;
+import org.eclipse.pde.core.tests.internal.core.builders.DependencyLoopFinderTest;
 import org.eclipse.pde.core.tests.internal.util.PDESchemaHelperTest;
 import org.eclipse.pde.ui.tests.build.properties.AllValidatorTests;
 import org.eclipse.pde.ui.tests.classpathcontributor.ClasspathContributorTest;
 import org.eclipse.pde.ui.tests.classpathresolver.ClasspathResolverTest;
 import org.eclipse.pde.ui.tests.classpathupdater.ClasspathUpdaterTest;
 import org.eclipse.pde.ui.tests.ee.ExportBundleTests;
+import org.eclipse.pde.ui.tests.ee.ExportJarCacheTests;
 import org.eclipse.pde.ui.tests.imports.AllImportTests;
 import org.eclipse.pde.ui.tests.launcher.AllLauncherTests;
 import org.eclipse.pde.ui.tests.model.bundle.AllBundleModelTests;
@@ -34,6 +37,7 @@ import org.eclipse.pde.ui.tests.project.PluginRegistryTests;
 import org.eclipse.pde.ui.tests.project.ProjectCreationTests;
 import org.eclipse.pde.ui.tests.runtime.AllPDERuntimeTests;
 import org.eclipse.pde.ui.tests.target.AllTargetTests;
+import org.eclipse.pde.ui.tests.views.dependencies.CallersListContentProviderTest;
 import org.eclipse.pde.ui.tests.views.log.AllLogViewTests;
 import org.eclipse.pde.ui.tests.wizards.AllNewProjectTests;
 import org.eclipse.ui.tests.smartimport.ProjectSmartImportTest;
@@ -53,8 +57,10 @@ import org.junit.runners.Suite.SuiteClasses;
 	AllNLSTests.class, //
 	AllPDERuntimeTests.class, //
 	ExportBundleTests.class, //
+	ExportJarCacheTests.class, //
 	AllLauncherTests.class, //
 	AllLogViewTests.class, //
+	CallersListContentProviderTest.class, //
 	ProjectCreationTests.class, //
 	BundleRootTests.class, //
 	PluginRegistryTests.class, //
@@ -64,7 +70,9 @@ import org.junit.runners.Suite.SuiteClasses;
 	ClasspathContributorTest.class, //
 	DynamicPluginProjectReferencesTest.class, //
 	ClasspathResolutionTest.class, //
+	DevClasspathCacheTest.class, //
 	BundleErrorReporterTest.class, //
+	DependencyLoopFinderTest.class, //
 	AllPDECoreTests.class, //
 	ProjectSmartImportTest.class, //
 })
@@ -0,0 +1,196 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.ui.tests.ee;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.osgi.service.resolver.VersionRange;
+import org.eclipse.pde.core.plugin.IPluginModelBase;
+import org.eclipse.pde.core.plugin.PluginRegistry;
+import org.eclipse.pde.core.project.IRequiredBundleDescription;
+import org.eclipse.pde.internal.core.PDECore;
+import org.eclipse.pde.internal.core.exports.ExportJarCache;
+import org.eclipse.pde.internal.core.exports.FeatureExportInfo;
+import org.eclipse.pde.internal.core.util.CoreUtility;
+import org.eclipse.pde.ui.tests.runtime.TestUtils;
+import org.eclipse.pde.ui.tests.util.ProjectUtils;
+import org.junit.After;
+import org.junit.ClassRule;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.junit.rules.TestRule;
+
+/**
+ * Tests the cache of exported jars used to skip rebuilding unchanged
+ * workspace plug-ins.
+ */
+public class ExportJarCacheTests {
+
+	@ClassRule
+	public static final TestRule CLEAR_WORKSPACE = ProjectUtils.DELETE_ALL_WORKSPACE_PROJECTS_BEFORE_AND_AFTER;
+
+	private static final String DEPENDENCY = "export.cache.dependency";
+	private static final String CONSUMER = "export.cache.consumer";
+
+	@Rule
+	public final TestRule deleteCreatedTestProjectsAfter = ProjectUtils.DELETE_CREATED_WORKSPACE_PROJECTS_AFTER;
+	@Rule
+	public TemporaryFolder tempFolder = new TemporaryFolder();
+
+	@After
+	public void tearDown() {
+		Path cache = PDECore.getDefault().getStateLocation().append("exportCache").toPath();
+		CoreUtility.deleteContent(cache.resolve(DEPENDENCY).toFile());
+		CoreUtility.deleteContent(cache.resolve(CONSUMER).toFile());
+	}
+
+	@Test
+	public void testKeyIsStable() throws Exception {
+		IProject project = createProject(DEPENDENCY, "1.0.0");
+		writeFile(project, "data.txt", "content");
+
+		String key = newCache("v1").computeKey(findModel(project));
+		assertNotNull(key);
+		assertEquals(key, newCache("v1").computeKey(findModel(project)));
+	}
+
+	@Test
+	public void testKeyChangesWithContent() throws Exception {
+		IProject project = createProject(DEPENDENCY, "1.0.0");
+		writeFile(project, "data.txt", "content");
+		String key = newCache("v1").computeKey(findModel(project));
+
+		writeFile(project, "data.txt", "changed content");
+		assertNotEquals(key, newCache("v1").computeKey(findModel(project)));
+	}
+
+	@Test
+	public void testKeyChangesWithQualifier() throws Exception {
+		IProject project = createProject(DEPENDENCY, "1.0.0.qualifier");
+
+		String key = newCache("v1").computeKey(findModel(project));
+		assertNotNull(key);
+		assertNotEquals(key, newCache("v2").computeKey(findModel(project)));
+		// the date qualifier is different for each export
+		assertNull(newCache(null).computeKey(findModel(project)));
+	}
+
+	@Test
+	public void testKeyChangesWithWorkspaceDependency() throws Exception {
+		IProject dependency = createProject(DEPENDENCY, "1.0.0");
+		writeFile(dependency, "data.txt", "content");
+		IProject consumer = ProjectUtils.createPluginProject(CONSUMER, CONSUMER, "1.0.0", (description, service) -> {
+			IRequiredBundleDescription required = service.newRequiredBundle(DEPENDENCY, (VersionRange) null, false, false);
+			description.setRequiredBundles(new IRequiredBundleDescription[] { required });
+		});
+		TestUtils.waitForJobs(getClass().getSimpleName(), 100, 10000);
+		String key = newCache("v1").computeKey(findModel(consumer));
+		assertNotNull(key);
+
+		// same name and version, but different content
+		writeFile(dependency, "data.txt", "changed content");
+		assertNotEquals(key, newCache("v1").computeKey(findModel(consumer)));
+	}
+
+	@Test
+	public void testCacheMissAndHit() throws Exception {
+		IProject project = createProject(DEPENDENCY, "1.0.0");
+		ExportJarCache cache = newCache("v1");
+		String key = cache.computeKey(findModel(project));
+		assertNull(cache.get(DEPENDENCY, key));
+
+		Path exported = Files.writeString(tempFolder.newFolder().toPath().resolve(DEPENDENCY + "_1.0.0.jar"), "jar");
+		cache.put(DEPENDENCY, key, exported);
+		Path cached = cache.get(DEPENDENCY, key);
+		assertNotNull(cached);
+		assertEquals(exported.getFileName(), cached.getFileName());
+		assertEquals("jar", Files.readString(cached));
+
+		writeFile(project, "data.txt", "content");
+		assertNull(cache.get(DEPENDENCY, newCache("v1").computeKey(findModel(project))));
+	}
+
+	@Test
+	public void testRestore() throws Exception {
+		ExportJarCache cache = newCache("v1");
+		Path exported = Files.writeString(tempFolder.newFolder().toPath().resolve(DEPENDENCY + "_1.0.0.jar"), "jar");
+		cache.put(DEPENDENCY, "key", exported);
+
+		cache.restore(cache.get(DEPENDENCY, "key"));
+		Path restored = Path.of(newInfo("v1").destinationDirectory, "plugins", DEPENDENCY + "_1.0.0.jar");
+		assertTrue(Files.isRegularFile(restored));
+	}
+
+	@Test
+	public void testFindExportedJarUsesExactName() throws Exception {
+		IProject project = createProject(DEPENDENCY, "1.0.0.qualifier");
+		ExportJarCache cache = newCache("v1");
+		Path plugins = Files.createDirectories(Path.of(newInfo("v1").destinationDirectory, "plugins"));
+		assertNull(cache.findExportedJar(findModel(project).getBundleDescription()));
+
+		Path jar = Files.writeString(plugins.resolve(DEPENDENCY + "_1.0.0.v1.jar"), "jar");
+		// a newer jar of another version must not be picked up
+		Files.writeString(plugins.resolve(DEPENDENCY + "_2.0.0.v1.jar"), "jar");
+		assertEquals(jar, cache.findExportedJar(findModel(project).getBundleDescription()));
+	}
+
+	private ExportJarCache newCache(String qualifier) {
+		return new ExportJarCache(newInfo(qualifier));
+	}
+
+	private FeatureExportInfo newInfo(String qualifier) {
+		FeatureExportInfo info = new FeatureExportInfo();
+		info.toDirectory = true;
+		info.useJarFormat = true;
+		info.destinationDirectory = tempFolder.getRoot().toPath().resolve("export").toString();
+		info.qualifier = qualifier;
+		return info;
+	}
+
+	private IProject createProject(String symbolicName, String version) throws CoreException {
+		IProject project = ProjectUtils.createPluginProject(symbolicName, symbolicName, version);
+		TestUtils.waitForJobs(getClass().getSimpleName(), 100, 10000);
+		return project;
+	}
+
+	private static void writeFile(IProject project, String name, String content) throws CoreException {
+		IFile file = project.getFile(name);
+		ByteArrayInputStream stream = new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+		if (file.exists()) {
+			file.setContents(stream, true, false, null);
+		} else {
+			file.create(stream, true, null);
+		}
+	}
+
+	private static IPluginModelBase findModel(IProject project) {
+		IPluginModelBase model = PluginRegistry.findModel(project);
+		assertNotNull(model);
+		return model;
+	}
+
+}
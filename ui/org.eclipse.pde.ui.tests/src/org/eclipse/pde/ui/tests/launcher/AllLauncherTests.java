@@ -29,6 +29,7 @@ import org.junit.runners.Suite.SuiteClasses;
 	LaunchConfigurationMigrationTest.class, //
 	ProductEditorLaunchingTest.class, //
 	ValidationDialogTest.class, //
+	LaunchValidationOperationTest.class, //
 })
 public class AllLauncherTests {
 
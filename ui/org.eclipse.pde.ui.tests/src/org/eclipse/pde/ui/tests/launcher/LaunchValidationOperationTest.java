@@ -0,0 +1,211 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.ui.tests.launcher;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Dictionary;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.jdt.launching.JavaRuntime;
+import org.eclipse.jdt.launching.environments.IExecutionEnvironment;
+import org.eclipse.osgi.service.resolver.BundleDescription;
+import org.eclipse.pde.core.plugin.IPluginModelBase;
+import org.eclipse.pde.core.plugin.PluginRegistry;
+import org.eclipse.pde.core.project.IRequiredBundleDescription;
+import org.eclipse.pde.internal.core.BundleValidationOperation;
+import org.eclipse.pde.internal.launching.launcher.LaunchValidationOperation;
+import org.eclipse.pde.ui.tests.runtime.TestUtils;
+import org.eclipse.pde.ui.tests.util.ProjectUtils;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.ClassRule;
+import org.junit.Test;
+import org.junit.rules.TestRule;
+import org.osgi.framework.VersionRange;
+
+/**
+ * Tests that validating bundles on top of the state of the previous validation
+ * gives the same result as validating them from scratch.
+ */
+public class LaunchValidationOperationTest {
+
+	@ClassRule
+	public static final TestRule CLEAR_WORKSPACE = ProjectUtils.DELETE_ALL_WORKSPACE_PROJECTS_BEFORE_AND_AFTER;
+
+	private static final String SINGLETON = "validation.singleton";
+	private static final String CONSUMER = "validation.consumer";
+	private static final String LIBRARY = "validation.library";
+
+	private static IPluginModelBase singleton1;
+	private static IPluginModelBase singleton2;
+	private static IPluginModelBase consumer;
+	private static IPluginModelBase library;
+
+	@BeforeClass
+	public static void createProjects() throws CoreException {
+		IProject s1 = ProjectUtils.createPluginProject(SINGLETON + "1", SINGLETON, "1.0.0",
+				(description, service) -> description.setSingleton(true));
+		IProject s2 = ProjectUtils.createPluginProject(SINGLETON + "2", SINGLETON, "2.0.0",
+				(description, service) -> description.setSingleton(true));
+		IProject c = ProjectUtils.createPluginProject(CONSUMER, CONSUMER, "1.0.0", (description, service) -> {
+			description.setRequiredBundles(new IRequiredBundleDescription[] {
+					service.newRequiredBundle(SINGLETON, new VersionRange("[2.0.0,3.0.0)"), false, false),
+					service.newRequiredBundle(LIBRARY, (VersionRange) null, false, false) });
+		});
+		IProject l = ProjectUtils.createPluginProject(LIBRARY, LIBRARY, "1.0.0");
+		TestUtils.waitForJobs(LaunchValidationOperationTest.class.getSimpleName(), 100, 10000);
+		singleton1 = findModel(s1);
+		singleton2 = findModel(s2);
+		consumer = findModel(c);
+		library = findModel(l);
+	}
+
+	@Before
+	public void clearResolvedState() {
+		BundleValidationOperation.clearResolvedState();
+	}
+
+	@Test
+	public void testBundleSetChanges() throws CoreException {
+		Map<String, List<String>> missingLibrary = assertSameAsFresh(Set.of(consumer, singleton2));
+		assertThat(missingLibrary).containsOnlyKeys(CONSUMER + "_1.0.0");
+
+		assertThat(assertSameAsFresh(Set.of(consumer, singleton2, library))).isEmpty();
+		// unchanged bundles, nothing to resolve again
+		assertThat(assertSameAsFresh(Set.of(consumer, singleton2, library))).isEmpty();
+
+		assertThat(assertSameAsFresh(Set.of(consumer, singleton2))).isEqualTo(missingLibrary);
+	}
+
+	@Test
+	public void testSingletonChanges() throws CoreException {
+		Map<String, List<String>> wrongVersion = assertSameAsFresh(Set.of(consumer, singleton1, library));
+		assertThat(wrongVersion).containsOnlyKeys(CONSUMER + "_1.0.0");
+
+		// two singletons of the same name
+		assertThat(assertSameAsFresh(Set.of(consumer, singleton1, singleton2, library))).isNotEmpty();
+
+		assertThat(assertSameAsFresh(Set.of(consumer, singleton2, library))).isEmpty();
+
+		assertThat(assertSameAsFresh(Set.of(consumer, singleton1, library))).isEqualTo(wrongVersion);
+	}
+
+	@Test
+	public void testLaunchValidation() throws CoreException {
+		Set<IPluginModelBase> models = Set.of(consumer, singleton2, library);
+		TestLaunchValidationOperation first = new TestLaunchValidationOperation(models);
+		first.run(null);
+		TestLaunchValidationOperation second = new TestLaunchValidationOperation(models);
+		second.run(null);
+
+		// the Java profiles read for the first validation are reused
+		assertThat(toMaps(second.getPlatformProperties())).isEqualTo(toMaps(first.getPlatformProperties()));
+		assertThat(second.hasErrors()).isEqualTo(first.hasErrors());
+		assertThat(toComparable(second.getInput())).isEqualTo(toComparable(first.getInput()));
+
+		BundleValidationOperation.clearResolvedState();
+		TestLaunchValidationOperation fresh = new TestLaunchValidationOperation(models);
+		fresh.run(null);
+		assertThat(toComparable(second.getInput())).isEqualTo(toComparable(fresh.getInput()));
+	}
+
+	/**
+	 * Validates the models on top of the previous validation and from scratch
+	 * and asserts that both find the same problems.
+	 *
+	 * @return the problems found
+	 */
+	private static Map<String, List<String>> assertSameAsFresh(Set<IPluginModelBase> models) throws CoreException {
+		BundleValidationOperation incremental = new BundleValidationOperation(models);
+		incremental.run(null);
+
+		BundleValidationOperation.clearResolvedState();
+		BundleValidationOperation fresh = new BundleValidationOperation(models);
+		fresh.run(null);
+
+		Map<String, List<String>> problems = toComparable(incremental.getResolverErrors());
+		assertThat(problems).isEqualTo(toComparable(fresh.getResolverErrors()));
+		assertThat(incremental.hasErrors()).isEqualTo(fresh.hasErrors());
+		for (IPluginModelBase model : models) {
+			String symbolicName = model.getPluginBase().getId();
+			assertThat(incremental.containsBundle(symbolicName)).isEqualTo(fresh.containsBundle(symbolicName));
+		}
+		return problems;
+	}
+
+	/**
+	 * The resolver errors keyed by bundles of different states can't be
+	 * compared directly, only their descriptions.
+	 */
+	private static Map<String, List<String>> toComparable(Map<Object, Object[]> errors) {
+		Map<String, List<String>> result = new TreeMap<>();
+		for (Map.Entry<Object, Object[]> entry : errors.entrySet()) {
+			BundleDescription bundle = (BundleDescription) entry.getKey();
+			List<String> descriptions = new ArrayList<>();
+			for (Object error : entry.getValue()) {
+				descriptions.add(error instanceof IStatus status ? status.getMessage() : String.valueOf(error));
+			}
+			descriptions.sort(null);
+			result.put(bundle.getSymbolicName() + '_' + bundle.getVersion(), descriptions);
+		}
+		return result;
+	}
+
+	private static List<Map<String, String>> toMaps(Dictionary<String, String>[] dictionaries) {
+		List<Map<String, String>> result = new ArrayList<>();
+		for (Dictionary<String, String> dictionary : dictionaries) {
+			Map<String, String> map = new HashMap<>();
+			dictionary.keys().asIterator().forEachRemaining(key -> map.put(key, dictionary.get(key)));
+			result.add(map);
+		}
+		return result;
+	}
+
+	private static IPluginModelBase findModel(IProject project) {
+		IPluginModelBase model = PluginRegistry.findModel(project);
+		assertThat(model).isNotNull();
+		return model;
+	}
+
+	/**
+	 * Validates against all known execution environments instead of the ones
+	 * of the VM of a launch configuration.
+	 */
+	private static class TestLaunchValidationOperation extends LaunchValidationOperation {
+
+		TestLaunchValidationOperation(Set<IPluginModelBase> models) {
+			super(null, models);
+		}
+
+		@Override
+		protected IExecutionEnvironment[] getMatchingEnvironments() {
+			return JavaRuntime.getExecutionEnvironmentsManager().getExecutionEnvironments();
+		}
+
+		@Override
+		protected Dictionary<String, String>[] getPlatformProperties() throws CoreException {
+			return super.getPlatformProperties();
+		}
+	}
+
+}
@@ -0,0 +1,106 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.ui.tests.views.dependencies;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Hashtable;
+import java.util.List;
+import java.util.Set;
+
+import org.eclipse.osgi.service.resolver.BundleDescription;
+import org.eclipse.osgi.service.resolver.State;
+import org.eclipse.osgi.service.resolver.StateObjectFactory;
+import org.eclipse.pde.internal.ui.views.dependencies.CallersListContentProvider;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.osgi.framework.BundleException;
+import org.osgi.framework.Constants;
+
+/**
+ * Tests the transitive callers shown in the list mode of the Dependencies
+ * view, which are collected from a graph precomputed per state.
+ */
+public class CallersListContentProviderTest {
+
+	private State state;
+	private CallersListContentProvider provider;
+	private long nextId;
+
+	@Before
+	public void setUp() {
+		state = StateObjectFactory.defaultFactory.createState(true);
+		provider = new CallersListContentProvider(null);
+	}
+
+	@After
+	public void tearDown() {
+		provider.dispose();
+	}
+
+	@Test
+	public void testTransitiveCallers() throws Exception {
+		BundleDescription a = addBundle("a");
+		BundleDescription b = addBundle("b", "a");
+		BundleDescription c = addBundle("c", "b");
+		BundleDescription d = addBundle("d", "a", "c");
+		addBundle("e");
+		state.resolve(false);
+
+		assertEquals(Set.of(b, c, d), Set.of(provider.getElements(a)));
+		assertEquals(Set.of(c, d), Set.of(provider.getElements(b)));
+		assertEquals(0, provider.getElements(d).length);
+	}
+
+	@Test
+	public void testCycle() throws Exception {
+		BundleDescription a = addBundle("a", "c");
+		BundleDescription b = addBundle("b", "a");
+		BundleDescription c = addBundle("c", "b");
+		state.resolve(false);
+
+		// a bundle in a cycle is one of its own callers
+		List<Object> callers = List.of(provider.getElements(a));
+		assertEquals(3, callers.size());
+		assertTrue(callers.containsAll(List.of(a, b, c)));
+	}
+
+	@Test
+	public void testGraphIsUpdatedWithState() throws Exception {
+		BundleDescription a = addBundle("a");
+		BundleDescription b = addBundle("b", "a");
+		state.resolve(false);
+		assertEquals(Set.of(b), Set.of(provider.getElements(a)));
+
+		BundleDescription c = addBundle("c", "a");
+		state.resolve(false);
+		assertEquals(Set.of(b, c), Set.of(provider.getElements(a)));
+	}
+
+	private BundleDescription addBundle(String symbolicName, String... requiredBundles) throws BundleException {
+		Hashtable<String, String> manifest = new Hashtable<>();
+		manifest.put(Constants.BUNDLE_MANIFESTVERSION, "2");
+		manifest.put(Constants.BUNDLE_SYMBOLICNAME, symbolicName);
+		manifest.put(Constants.BUNDLE_VERSION, "1.0.0");
+		if (requiredBundles.length > 0) {
+			manifest.put(Constants.REQUIRE_BUNDLE, String.join(",", requiredBundles));
+		}
+		BundleDescription bundle = state.getFactory().createBundleDescription(state, manifest, symbolicName, nextId++);
+		state.addBundle(bundle);
+		return bundle;
+	}
+
+}
@@ -28,12 +28,20 @@ import org.eclipse.osgi.service.resolver.ExportPackageDescription;
 import org.eclipse.osgi.service.resolver.ImportPackageSpecification;
 import org.eclipse.pde.core.plugin.IPluginModelBase;
 import org.eclipse.pde.core.plugin.PluginRegistry;
+import org.eclipse.pde.internal.core.PluginModelDelta;
 import org.osgi.framework.Constants;
 
 public class CalleesListContentProvider extends CalleesContentProvider implements IStructuredContentProvider {
 
 	boolean fShowOptional;
 
+	// the callees of the last input, the view asks for them again on every
+	// refresh, e.g. when the selection or the sorting changes
+	private volatile Callees fCache;
+
+	private record Callees(BundleDescription bundle, long timeStamp, boolean showOptional, Object[] elements) {
+	}
+
 	public CalleesListContentProvider(DependenciesView view) {
 		super(view);
 	}
@@ -52,6 +60,13 @@ public class CalleesListContentProvider extends CalleesContentProvider implement
 	@Override
 	public Object[] getElements(Object inputElement) {
 		if (inputElement instanceof IPluginModelBase) {
+			BundleDescription input = ((IPluginModelBase) inputElement).getBundleDescription();
+			Callees cache = fCache;
+			if (cache != null && input == cache.bundle() && fShowOptional == cache.showOptional()
+					&& input.getContainingState() != null
+					&& input.getContainingState().getTimeStamp() == cache.timeStamp()) {
+				return cache.elements().clone();
+			}
 			Map<String, Object> elements = new LinkedHashMap<>();
 			Set<Object> candidates = new LinkedHashSet<>();
 			candidates.addAll(Arrays.asList(findCallees(((IPluginModelBase) inputElement))));
@@ -82,10 +97,10 @@ public class CalleesListContentProvider extends CalleesContentProvider implement
 					if (desc == null) {
 						continue;
 					}
-					IPluginModelBase callee = PluginRegistry.findModel(desc.getSymbolicName());
 					if (!elements.containsKey(desc.getSymbolicName())) {
 						elements.put(desc.getSymbolicName(), candidate);
-						if (callee != null) {
+						// only look up bundles reached for the first time
+						if (PluginRegistry.findModel(desc.getSymbolicName()) != null) {
 							newCandidates.addAll(Arrays.asList(findCallees(desc)));
 						}
 					}
@@ -93,8 +108,25 @@ public class CalleesListContentProvider extends CalleesContentProvider implement
 				candidates = newCandidates;
 
 			}
-			return elements.values().toArray();
+			Object[] result = elements.values().toArray();
+			if (input != null && input.getContainingState() != null) {
+				fCache = new Callees(input, input.getContainingState().getTimeStamp(), fShowOptional, result.clone());
+			}
+			return result;
 		}
 		return new Object[0];
 	}
+
+	@Override
+	public void modelsChanged(PluginModelDelta delta) {
+		// the callees are looked up in the plug-in registry as well
+		fCache = null;
+		super.modelsChanged(delta);
+	}
+
+	@Override
+	public void dispose() {
+		fCache = null;
+		super.dispose();
+	}
 }
@@ -25,6 +25,10 @@ public class CallersContentProvider extends DependenciesViewPageContentProvider
 	}
 
 	protected Collection<BundleDescription> findReferences(BundleDescription desc) {
+		return getReferences(desc);
+	}
+
+	static Collection<BundleDescription> getReferences(BundleDescription desc) {
 		if (desc != null) {
 			// don't return any callers for fragments (since no one can depend on a fragment
 			if (desc.getHost() == null) {
@@ -13,16 +13,15 @@
  *******************************************************************************/
 package org.eclipse.pde.internal.ui.views.dependencies;
 
-import java.util.HashSet;
-import java.util.Iterator;
-import java.util.Set;
-
 import org.eclipse.jface.viewers.IStructuredContentProvider;
 import org.eclipse.osgi.service.resolver.BundleDescription;
 import org.eclipse.pde.core.plugin.IPluginModelBase;
 
 public class CallersListContentProvider extends CallersContentProvider implements IStructuredContentProvider {
 
+	// keeps the shared graph alive while the view shows callers
+	private DependencyGraph fGraph;
+
 	public CallersListContentProvider(DependenciesView view) {
 		super(view);
 	}
@@ -40,25 +39,17 @@ public class CallersListContentProvider extends CallersContentProvider implement
 			desc = (BundleDescription) inputElement;
 		}
 		if (desc != null) {
-			Set<BundleDescription> callers = new HashSet<>();
-			Set<BundleDescription> candidates = new HashSet<>();
-			candidates.addAll(findReferences(desc));
-			while (!candidates.isEmpty()) {
-				Set<BundleDescription> newCandidates = new HashSet<>();
-				for (Iterator<BundleDescription> it = candidates.iterator(); it.hasNext();) {
-					BundleDescription o = it.next();
-					it.remove();
-					if (!callers.contains(o)) {
-						callers.add(o);
-						newCandidates.addAll(findReferences(o));
-					}
-				}
-				candidates = newCandidates;
-
+			fGraph = DependencyGraph.of(desc);
+			if (fGraph != null) {
+				return fGraph.getAllCallers(desc).toArray();
 			}
-
-			return callers.toArray();
 		}
 		return new Object[0];
 	}
+
+	@Override
+	public void dispose() {
+		fGraph = null;
+		super.dispose();
+	}
 }
@@ -0,0 +1,118 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.internal.ui.views.dependencies;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.osgi.service.resolver.BundleDescription;
+import org.eclipse.osgi.service.resolver.State;
+
+/**
+ * The callers of all bundles of a resolved state, indexed by integers so that
+ * the transitive callers of a bundle can be collected in a single pass over
+ * the edges. The graph of the last used state is shared as long as a content
+ * provider uses it and rebuilt once the state has been resolved again, it
+ * does not keep the state alive on its own.
+ */
+final class DependencyGraph {
+
+	private static WeakReference<DependencyGraph> fLast = new WeakReference<>(null);
+
+	private final State fState;
+	private final long fTimeStamp;
+	private final BundleDescription[] fBundles;
+	private final Map<BundleDescription, Integer> fIndex;
+	private final int[][] fCallers;
+
+	private DependencyGraph(State state) {
+		fState = state;
+		fTimeStamp = state.getTimeStamp();
+		fBundles = state.getBundles();
+		fIndex = new IdentityHashMap<>(fBundles.length * 2);
+		for (int i = 0; i < fBundles.length; i++) {
+			fIndex.put(fBundles[i], Integer.valueOf(i));
+		}
+		fCallers = new int[fBundles.length][];
+		for (int i = 0; i < fBundles.length; i++) {
+			Collection<BundleDescription> references = CallersContentProvider.getReferences(fBundles[i]);
+			int[] callers = new int[references.size()];
+			int count = 0;
+			for (BundleDescription reference : references) {
+				Integer index = fIndex.get(reference);
+				if (index != null) {
+					callers[count++] = index.intValue();
+				}
+			}
+			fCallers[i] = count == callers.length ? callers : Arrays.copyOf(callers, count);
+		}
+	}
+
+	/**
+	 * @return the graph of the state containing the given bundle or
+	 *         <code>null</code> if the bundle does not belong to a state
+	 */
+	static synchronized DependencyGraph of(BundleDescription desc) {
+		State state = desc.getContainingState();
+		if (state == null) {
+			return null;
+		}
+		DependencyGraph graph = fLast.get();
+		if (graph == null || graph.fState != state || graph.fTimeStamp != state.getTimeStamp()) {
+			graph = new DependencyGraph(state);
+			fLast = new WeakReference<>(graph);
+		}
+		return graph;
+	}
+
+	/**
+	 * Returns all bundles that directly or indirectly depend on the given
+	 * bundle. A bundle that is part of a cycle is included in its own callers.
+	 */
+	List<BundleDescription> getAllCallers(BundleDescription desc) {
+		Integer start = fIndex.get(desc);
+		if (start == null) {
+			return List.of();
+		}
+		boolean[] visited = new boolean[fBundles.length];
+		int[] queue = new int[fBundles.length];
+		int head = 0;
+		int tail = 0;
+		for (int caller : fCallers[start.intValue()]) {
+			if (!visited[caller]) {
+				visited[caller] = true;
+				queue[tail++] = caller;
+			}
+		}
+		while (head < tail) {
+			for (int caller : fCallers[queue[head++]]) {
+				if (!visited[caller]) {
+					visited[caller] = true;
+					queue[tail++] = caller;
+				}
+			}
+		}
+		List<BundleDescription> callers = new ArrayList<>(tail);
+		for (int i = 0; i < tail; i++) {
+			callers.add(fBundles[queue[i]]);
+		}
+		return callers;
+	}
+
+}
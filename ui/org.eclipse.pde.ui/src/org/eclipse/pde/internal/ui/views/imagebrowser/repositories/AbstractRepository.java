@@ -26,6 +26,7 @@ import java.util.LinkedList;
 import java.util.List;
 import java.util.Optional;
 import java.util.Properties;
+import java.util.function.Consumer;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipFile;
 
@@ -100,13 +101,17 @@ public abstract class AbstractRepository extends Job {
 		}
 	}
 
-	protected ImageData createImageData(final File jarFile, final ZipEntry entry) throws CoreException {
+	protected ImageData createImageData(final File jarFile, final String entryName) throws CoreException {
 		try (ZipFile zipFile = new ZipFile(jarFile)) {
+			ZipEntry entry = zipFile.getEntry(entryName);
+			if (entry == null) {
+				throw new CoreException(Status.error(NLS.bind(PDEUIMessages.AbstractRepository_ErrorLoadingImageFromJar, jarFile.getAbsolutePath(), entryName)));
+			}
 			try (InputStream inputStream = zipFile.getInputStream(entry)) {
 				return new ImageData(inputStream);
 			} catch (SWTException e) {
 				// invalid image format
-				throw new CoreException(Status.error(NLS.bind(PDEUIMessages.AbstractRepository_ErrorLoadingImageFromJar, jarFile.getAbsolutePath(), entry.getName()), e));
+				throw new CoreException(Status.error(NLS.bind(PDEUIMessages.AbstractRepository_ErrorLoadingImageFromJar, jarFile.getAbsolutePath(), entryName), e));
 			}
 		} catch (IOException e) {
 			throw new CoreException(Status.error(
@@ -137,12 +142,22 @@ public abstract class AbstractRepository extends Job {
 	}
 
 	protected void searchJarFile(final File jarFile, final IProgressMonitor monitor) {
+		searchJarFile(jarFile, monitor, this::addImageElement);
+	}
+
+	/**
+	 * Reports the images contained in the given jar. The jar is only opened
+	 * once while scanning, the elements just remember the entry and read it
+	 * again when their image data is requested.
+	 */
+	protected void searchJarFile(final File jarFile, final IProgressMonitor monitor, Consumer<ImageElement> elements) {
 		try (ZipFile zipFile = new ZipFile(jarFile)) {
 			Enumeration<? extends ZipEntry> entries = zipFile.entries();
 			while ((entries.hasMoreElements()) && (!monitor.isCanceled())) {
 				ZipEntry entry = entries.nextElement();
 				if (isImageName(entry.getName())) {
-					addImageElement(new ImageElement(() -> createImageData(jarFile, entry), jarFile.getName(), entry.getName()));
+					String entryName = entry.getName();
+					elements.accept(new ImageElement(() -> createImageData(jarFile, entryName), jarFile.getName(), entryName));
 				}
 			}
 		} catch (IOException e) {
@@ -151,6 +166,10 @@ public abstract class AbstractRepository extends Job {
 	}
 
 	protected void searchDirectory(File directory, final IProgressMonitor monitor) {
+		searchDirectory(directory, monitor, this::addImageElement);
+	}
+
+	protected void searchDirectory(File directory, final IProgressMonitor monitor, Consumer<ImageElement> elements) {
 		File manifest = new File(directory, "META-INF/MANIFEST.MF"); //$NON-NLS-1$
 		if (manifest.exists()) {
 			try {
@@ -177,7 +196,7 @@ public abstract class AbstractRepository extends Job {
 
 						} else {
 							if (isImage(resource)) {
-								addImageElement(new ImageElement(() -> createImageData(resource), pluginName, resource.getAbsolutePath().substring(directoryPathLength)));
+								elements.accept(new ImageElement(() -> createImageData(resource), pluginName, resource.getAbsolutePath().substring(directoryPathLength)));
 							}
 						}
 					}
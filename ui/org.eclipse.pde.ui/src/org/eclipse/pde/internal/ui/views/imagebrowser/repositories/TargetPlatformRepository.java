@@ -17,10 +17,16 @@ package org.eclipse.pde.internal.ui.views.imagebrowser.repositories;
 
 import java.io.File;
 import java.net.URI;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IProgressMonitor;
@@ -33,11 +39,16 @@ import org.eclipse.pde.core.target.TargetBundle;
 import org.eclipse.pde.internal.ui.PDEPlugin;
 import org.eclipse.pde.internal.ui.PDEUIMessages;
 import org.eclipse.pde.internal.ui.views.imagebrowser.IImageTarget;
+import org.eclipse.pde.internal.ui.views.imagebrowser.ImageElement;
 import org.eclipse.ui.PlatformUI;
 
 public class TargetPlatformRepository extends AbstractRepository {
 
+	private static final int PARALLEL_SCANS = Math.max(2, Runtime.getRuntime().availableProcessors());
+
 	private List<TargetBundle> fBundles = null;
+	private final Queue<CompletableFuture<List<ImageElement>>> fPending = new ArrayDeque<>();
+	private ExecutorService fExecutor;
 	private final boolean fUseCurrent;
 
 	/**
@@ -60,23 +71,42 @@ public class TargetPlatformRepository extends AbstractRepository {
 			initialize(monitor);
 		}
 
-		if ((fBundles != null) && (!fBundles.isEmpty())) {
-			TargetBundle bundle = fBundles.remove(fBundles.size() - 1);
-			URI location = bundle.getBundleInfo().getLocation();
-			File file = new File(location);
-			if (isJar(file)) {
-				searchJarFile(file, monitor);
-
-			} else if (file.isDirectory()) {
-				searchDirectory(file, monitor);
+		if (fBundles != null) {
+			// keep the next bundles scanning in the background while the
+			// images of the current one are consumed
+			while (fPending.size() < PARALLEL_SCANS && !fBundles.isEmpty()) {
+				TargetBundle bundle = fBundles.remove(fBundles.size() - 1);
+				fPending.add(CompletableFuture.supplyAsync(() -> scan(bundle, monitor), fExecutor));
 			}
+		}
 
+		CompletableFuture<List<ImageElement>> next = fPending.poll();
+		if (next != null) {
+			try {
+				mElementsCache.addAll(next.join());
+			} catch (CompletionException e) {
+				// skip the bundle, the remaining ones are still scanned
+				PDEPlugin.log(e.getCause());
+			}
 			return true;
 		}
 
 		return false;
 	}
 
+	private List<ImageElement> scan(TargetBundle bundle, IProgressMonitor monitor) {
+		List<ImageElement> elements = new ArrayList<>();
+		URI location = bundle.getBundleInfo().getLocation();
+		File file = new File(location);
+		if (isJar(file)) {
+			searchJarFile(file, monitor, elements::add);
+
+		} else if (file.isDirectory()) {
+			searchDirectory(file, monitor, elements::add);
+		}
+		return elements;
+	}
+
 	private void initialize(final IProgressMonitor monitor) {
 
 		try {
@@ -117,7 +147,15 @@ public class TargetPlatformRepository extends AbstractRepository {
 
 	@Override
 	protected synchronized IStatus run(IProgressMonitor monitor) {
-		super.run(monitor);
+		fExecutor = Executors.newFixedThreadPool(PARALLEL_SCANS);
+		try {
+			super.run(monitor);
+		} finally {
+			fPending.forEach(scan -> scan.cancel(false));
+			fPending.clear();
+			fExecutor.shutdownNow();
+			fExecutor = null;
+		}
 		if (fBundles != null) {
 			fBundles.clear();
 			fBundles = null;
@@ -40,6 +40,8 @@ import org.eclipse.ui.progress.IDeferredWorkbenchAdapter;
 
 public class PluginsContentProvider implements ITreeContentProvider {
 
+	private static final String JAR_EXTENSION = ".jar"; //$NON-NLS-1$
+
 	private final PluginsView fView;
 	private final StandardJavaElementContentProvider fJavaProvider;
 	private DeferredTreeContentManager fManager = null;
@@ -119,7 +121,14 @@ public class PluginsContentProvider implements ITreeContentProvider {
 			return fManager.mayHaveChildren(element);
 		}
 		if (element instanceof IPluginModelBase model) {
-			return model.getUnderlyingResource() == null && !new File(model.getInstallLocation()).isFile();
+			// called for every plug-in of the target, so only touch the file
+			// system for the rare locations that may be jars or directories
+			String location = model.getInstallLocation();
+			if (model.getUnderlyingResource() != null || location == null) {
+				return false;
+			}
+			return !location.regionMatches(true, location.length() - JAR_EXTENSION.length(), JAR_EXTENSION, 0, JAR_EXTENSION.length())
+					|| new File(location).isDirectory();
 		}
 		if (element instanceof FileAdapter fileAdapter) {
 			return fileAdapter.hasChildren();
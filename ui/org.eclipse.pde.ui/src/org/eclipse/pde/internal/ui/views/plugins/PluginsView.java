@@ -891,9 +891,13 @@ public class PluginsView extends ViewPart implements IPluginModelListener {
 				return;
 			}
 			if ((kind & PluginModelDelta.CHANGED) != 0 || (kind & PluginModelDelta.REMOVED) != 0) {
-				// Don't know exactly what change -
-				// the safest way out is to refresh
-				fTreeViewer.refresh();
+				// Don't know exactly what change - refresh the structure, but
+				// only relabel the changed plug-ins instead of the whole target
+				fTreeViewer.refresh(false);
+				for (ModelEntry element : delta.getChangedEntries()) {
+					fTreeViewer.update(element.getWorkspaceModels(), null);
+					fTreeViewer.update(element.getExternalModels(), null);
+				}
 			} else if ((kind & PluginModelDelta.ADDED) != 0) {
 				ModelEntry[] added = delta.getAddedEntries();
 				for (ModelEntry element : added) {